@@ -46,21 +46,21 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeNullBitmap(final MySQLPacketPayload payload) {
-        for (int each : getNullBitmap().getNullBitmap()) {
-            payload.writeInt1(each);
-        }
-    }
-    
-    private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
-        int index = 0;
+        int bitmap = 0;
+        int bitPosition = NULL_BITMAP_OFFSET;
         for (BinaryCell each : row.getCells()) {
             if (null == each.getData()) {
-                result.setNullBit(index);
+                bitmap |= 1 << bitPosition;
             }
-            index++;
+            if (8 == ++bitPosition) {
+                payload.writeInt1(bitmap);
+                bitmap = 0;
+                bitPosition = 0;
+            }
+        }
+        if (0 != bitPosition) {
+            payload.writeInt1(bitmap);
         }
-        return result;
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
@@ -40,6 +40,10 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final byte[] TRUE_BYTES = {1};
+    
+    private static final byte[] FALSE_BYTES = {0};
+    
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
     private final Collection<Object> data;
@@ -66,11 +70,12 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
         if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+            String value = data.toString();
+            payload.writeStringLenenc(value.substring(0, value.lastIndexOf('.')));
         } else if (data instanceof BigDecimal) {
             payload.writeStringLenenc(((BigDecimal) data).toPlainString());
         } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
+            payload.writeBytesLenenc((boolean) data ? TRUE_BYTES : FALSE_BYTES);
         } else if (data instanceof LocalDateTime) {
             payload.writeStringLenenc(DATE_TIME_FORMATTER.format((LocalDateTime) data));
         } else {
@@ -45,4 +45,15 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteWithNullBitmapAcrossBytes() {
+        BinaryRow row = new BinaryRow(Arrays.asList(new BinaryCell(MySQLBinaryColumnType.STRING, null), new BinaryCell(MySQLBinaryColumnType.STRING, "a"), new BinaryCell(MySQLBinaryColumnType.STRING, "b"),
+                new BinaryCell(MySQLBinaryColumnType.STRING, "c"), new BinaryCell(MySQLBinaryColumnType.STRING, "d"), new BinaryCell(MySQLBinaryColumnType.STRING, "e"),
+                new BinaryCell(MySQLBinaryColumnType.STRING, "f"), new BinaryCell(MySQLBinaryColumnType.STRING, null)));
+        new MySQLBinaryResultSetRowPacket(row).write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x04);
+        verify(payload).writeInt1(0x02);
+    }
 }
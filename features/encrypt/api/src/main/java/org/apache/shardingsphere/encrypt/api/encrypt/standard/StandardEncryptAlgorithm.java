@@ -20,6 +20,9 @@ package org.apache.shardingsphere.encrypt.api.encrypt.standard;
 import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
 import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Standard encrypt algorithm.
  * 
@@ -36,4 +39,19 @@ public interface StandardEncryptAlgorithm<I, O> extends EncryptAlgorithm<I, O> {
      * @return plain value
      */
     I decrypt(O cipherValue, EncryptContext encryptContext);
+    
+    /**
+     * Encrypt plain values of one column in batch.
+     *
+     * @param plainValues plain values
+     * @param encryptContext encrypt context
+     * @return cipher values, null plain value is encrypted to null
+     */
+    default List<O> batchEncrypt(final List<I> plainValues, final EncryptContext encryptContext) {
+        List<O> result = new ArrayList<>(plainValues.size());
+        for (I each : plainValues) {
+            result.add(null == each ? null : encrypt(each, encryptContext));
+        }
+        return result;
+    }
 }
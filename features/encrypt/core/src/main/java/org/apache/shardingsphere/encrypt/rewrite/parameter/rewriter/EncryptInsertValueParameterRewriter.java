@@ -36,6 +36,7 @@ import org.apache.shardingsphere.sql.parser.sql.dialect.handler.dml.InsertStatem
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -79,19 +80,25 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
                                      final String schemaName, final String tableName, final String columnName) {
         EncryptColumn encryptColumn = encryptRule.getEncryptTable(tableName).getEncryptColumn(columnName);
         int columnIndex = getColumnIndex(paramBuilder, insertStatementContext, columnName);
+        List<StandardParameterBuilder> standardParamBuilders = new ArrayList<>();
+        List<Integer> paramIndexes = new ArrayList<>();
+        List<Object> originalValues = new ArrayList<>();
         int count = 0;
         for (List<Object> each : insertStatementContext.getGroupedParameters()) {
             int paramIndex = insertStatementContext.getInsertValueContexts().get(count).getParameterIndex(columnIndex);
             if (!each.isEmpty()) {
-                StandardParameterBuilder standardParamBuilder = paramBuilder.getParameterBuilders().get(count);
                 ExpressionSegment expressionSegment = insertStatementContext.getInsertValueContexts().get(count).getValueExpressions().get(columnIndex);
                 if (expressionSegment instanceof ParameterMarkerExpressionSegment) {
-                    Object literalValue = insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null);
-                    encryptInsertValue(encryptColumn, paramIndex, literalValue, standardParamBuilder, schemaName, tableName);
+                    standardParamBuilders.add(paramBuilder.getParameterBuilders().get(count));
+                    paramIndexes.add(paramIndex);
+                    originalValues.add(insertStatementContext.getInsertValueContexts().get(count).getLiteralValue(columnIndex).orElse(null));
                 }
             }
             count++;
         }
+        if (!originalValues.isEmpty()) {
+            encryptInsertValues(encryptColumn, standardParamBuilders, paramIndexes, originalValues, schemaName, tableName);
+        }
     }
     
     private int getColumnIndex(final GroupedParameterBuilder paramBuilder, final InsertStatementContext insertStatementContext, final String encryptLogicColumnName) {
@@ -105,22 +112,33 @@ public final class EncryptInsertValueParameterRewriter implements ParameterRewri
         return columnNames.indexOf(encryptLogicColumnName);
     }
     
-    private void encryptInsertValue(final EncryptColumn encryptColumn, final int paramIndex, final Object originalValue,
-                                    final StandardParameterBuilder paramBuilder, final String schemaName, final String tableName) {
+    private void encryptInsertValues(final EncryptColumn encryptColumn, final List<StandardParameterBuilder> paramBuilders, final List<Integer> paramIndexes,
+                                     final List<Object> originalValues, final String schemaName, final String tableName) {
         String columnName = encryptColumn.getName();
-        paramBuilder.addReplacedParameters(paramIndex, encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        Collection<Object> addedParams = new LinkedList<>();
-        if (encryptColumn.getAssistedQuery().isPresent()) {
-            addedParams.add(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (encryptColumn.getLikeQuery().isPresent()) {
-            addedParams.add(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValue));
-        }
-        if (!addedParams.isEmpty()) {
-            if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
-                paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+        List<Object> cipherValues = new ArrayList<>(encryptColumn.getCipher().encrypt(databaseName, schemaName, tableName, columnName, originalValues));
+        List<Object> assistedQueryValues = encryptColumn.getAssistedQuery().isPresent()
+                ? new ArrayList<>(encryptColumn.getAssistedQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues))
+                : Collections.emptyList();
+        List<Object> likeQueryValues = encryptColumn.getLikeQuery().isPresent()
+                ? new ArrayList<>(encryptColumn.getLikeQuery().get().encrypt(databaseName, schemaName, tableName, columnName, originalValues))
+                : Collections.emptyList();
+        for (int i = 0; i < originalValues.size(); i++) {
+            StandardParameterBuilder paramBuilder = paramBuilders.get(i);
+            int paramIndex = paramIndexes.get(i);
+            paramBuilder.addReplacedParameters(paramIndex, cipherValues.get(i));
+            Collection<Object> addedParams = new LinkedList<>();
+            if (!assistedQueryValues.isEmpty()) {
+                addedParams.add(assistedQueryValues.get(i));
+            }
+            if (!likeQueryValues.isEmpty()) {
+                addedParams.add(likeQueryValues.get(i));
+            }
+            if (!addedParams.isEmpty()) {
+                if (!paramBuilder.getAddedIndexAndParameters().containsKey(paramIndex)) {
+                    paramBuilder.getAddedIndexAndParameters().put(paramIndex, new LinkedList<>());
+                }
+                paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
             }
-            paramBuilder.getAddedIndexAndParameters().get(paramIndex).addAll(addedParams);
         }
     }
 }
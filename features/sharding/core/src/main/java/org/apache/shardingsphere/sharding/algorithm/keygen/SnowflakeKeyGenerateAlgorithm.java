@@ -29,6 +29,9 @@ import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Properties;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -44,6 +47,8 @@ import java.util.concurrent.atomic.AtomicReference;
  *     10 bits worker process id.
  *     12 bits auto increment offset in one mills
  * </pre>
+ * 
+ * <p>Last millis and sequence are packed into one atomic word and advanced with CAS, so that keys of one statement can be reserved as a sequence range.</p>
  */
 public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
     
@@ -76,9 +81,7 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     
     private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
     
-    private final AtomicLong sequence = new AtomicLong();
-    
-    private final AtomicLong lastMillis = new AtomicLong();
+    private final AtomicLong lastMillisAndSequence = new AtomicLong();
     
     private Properties props;
     
@@ -118,31 +121,68 @@ public final class SnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm
     }
     
     @Override
-    public synchronized Long generateKey() {
-        long currentMillis = timeService.getCurrentMillis();
-        if (waitTolerateTimeDifferenceIfNeed(currentMillis)) {
-            currentMillis = timeService.getCurrentMillis();
+    public Long generateKey() {
+        long reserved = reserve(1);
+        return toKey(reserved >>> SEQUENCE_BITS, reserved & SEQUENCE_MASK, getWorkerId());
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final int count) {
+        List<Long> result = new ArrayList<>(count);
+        int workerId = getWorkerId();
+        while (result.size() < count) {
+            int remaining = count - result.size();
+            long reserved = reserve(remaining);
+            long currentMillis = reserved >>> SEQUENCE_BITS;
+            long firstSequence = reserved & SEQUENCE_MASK;
+            long lastSequence = getLastSequence(firstSequence, remaining);
+            for (long each = firstSequence; each <= lastSequence; each++) {
+                result.add(toKey(currentMillis, each, workerId));
+            }
         }
-        if (lastMillis.get() == currentMillis) {
-            sequence.set(sequence.incrementAndGet() & SEQUENCE_MASK);
-            if (0L == sequence.get()) {
-                currentMillis = waitUntilNextTime(currentMillis);
+        return result;
+    }
+    
+    // reserved range may be shorter than count if the millisecond runs out of sequences, returns millis and first sequence of the range
+    private long reserve(final int count) {
+        while (true) {
+            long last = lastMillisAndSequence.get();
+            long lastMillis = last >>> SEQUENCE_BITS;
+            long currentMillis = timeService.getCurrentMillis();
+            if (waitTolerateTimeDifferenceIfNeed(lastMillis, currentMillis)) {
+                currentMillis = timeService.getCurrentMillis();
+            }
+            long firstSequence;
+            if (lastMillis == currentMillis) {
+                firstSequence = (last + 1L) & SEQUENCE_MASK;
+                if (0L == firstSequence) {
+                    currentMillis = waitUntilNextTime(currentMillis);
+                }
+            } else {
+                vibrateSequenceOffset();
+                firstSequence = sequenceOffset.get();
+            }
+            if (lastMillisAndSequence.compareAndSet(last, (currentMillis << SEQUENCE_BITS) | getLastSequence(firstSequence, count))) {
+                return (currentMillis << SEQUENCE_BITS) | firstSequence;
             }
-        } else {
-            vibrateSequenceOffset();
-            sequence.set(sequenceOffset.get());
         }
-        lastMillis.set(currentMillis);
-        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS) | sequence.get();
+    }
+    
+    private long getLastSequence(final long firstSequence, final int count) {
+        return Math.min(SEQUENCE_MASK, firstSequence + count - 1L);
+    }
+    
+    private long toKey(final long currentMillis, final long sequence, final int workerId) {
+        return ((currentMillis - EPOCH) << TIMESTAMP_LEFT_SHIFT_BITS) | ((long) workerId << WORKER_ID_LEFT_SHIFT_BITS) | sequence;
     }
     
     @SneakyThrows(InterruptedException.class)
-    private boolean waitTolerateTimeDifferenceIfNeed(final long currentMillis) {
-        if (lastMillis.get() <= currentMillis) {
+    private boolean waitTolerateTimeDifferenceIfNeed(final long lastMillis, final long currentMillis) {
+        if (lastMillis <= currentMillis) {
             return false;
         }
-        long timeDifferenceMillis = lastMillis.get() - currentMillis;
-        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis, () -> new SnowflakeClockMoveBackException(lastMillis.get(), currentMillis));
+        long timeDifferenceMillis = lastMillis - currentMillis;
+        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis, () -> new SnowflakeClockMoveBackException(lastMillis, currentMillis));
         Thread.sleep(timeDifferenceMillis);
         return true;
     }
@@ -48,13 +48,18 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.L
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
 
+import java.time.temporal.Temporal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 /**
  * Sharding route cacheable checker.
@@ -175,32 +180,44 @@ public final class ShardingRouteCacheableChecker {
     
     private static ShardingRouteCacheableCheckResult checkShardingConditionsCacheable(final List<ShardingCondition> shardingConditions) {
         Set<Integer> result = new TreeSet<>();
+        Collection<List<Integer>> listParameterMarkerIndexGroups = new LinkedList<>();
+        Map<Integer, Integer> parameterMarkerIndexOccurrences = new HashMap<>();
         for (ShardingCondition each : shardingConditions) {
             for (ShardingConditionValue conditionValue : each.getValues()) {
                 if (!isConditionTypeCacheable(conditionValue)) {
                     return new ShardingRouteCacheableCheckResult(false, Collections.emptyList());
                 }
                 result.addAll(conditionValue.getParameterMarkerIndexes());
+                conditionValue.getParameterMarkerIndexes().forEach(index -> parameterMarkerIndexOccurrences.merge(index, 1, Integer::sum));
+                if (conditionValue instanceof ListShardingConditionValue && conditionValue.getParameterMarkerIndexes().size() > 1) {
+                    listParameterMarkerIndexGroups.add(new ArrayList<>(conditionValue.getParameterMarkerIndexes()));
+                }
             }
         }
-        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result));
+        Collection<List<Integer>> unorderedParameterMarkerIndexGroups = listParameterMarkerIndexGroups.stream()
+                .filter(group -> group.stream().allMatch(index -> 1 == parameterMarkerIndexOccurrences.get(index))).collect(Collectors.toList());
+        return new ShardingRouteCacheableCheckResult(true, new ArrayList<>(result), unorderedParameterMarkerIndexGroups);
     }
     
     private static boolean isConditionTypeCacheable(final ShardingConditionValue conditionValue) {
         if (conditionValue instanceof ListShardingConditionValue<?>) {
             for (Object eachValue : ((ListShardingConditionValue<?>) conditionValue).getValues()) {
-                if (!(eachValue instanceof Number)) {
+                if (!isConditionValueCacheable(eachValue)) {
                     return false;
                 }
             }
         }
         if (conditionValue instanceof RangeShardingConditionValue<?>) {
             Range<?> range = ((RangeShardingConditionValue<?>) conditionValue).getValueRange();
-            return range.lowerEndpoint() instanceof Number && range.upperEndpoint() instanceof Number;
+            return (!range.hasLowerBound() || isConditionValueCacheable(range.lowerEndpoint())) && (!range.hasUpperBound() || isConditionValueCacheable(range.upperEndpoint()));
         }
         return true;
     }
     
+    private static boolean isConditionValueCacheable(final Object value) {
+        return value instanceof Number || value instanceof String || value instanceof Temporal;
+    }
+    
     /**
      * Check if query is cacheable.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sharding.cache.checker.algorithm.impl;
 
+import org.apache.shardingsphere.sharding.algorithm.sharding.datetime.IntervalShardingAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.mod.HashModShardingAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.mod.ModShardingAlgorithm;
 import org.apache.shardingsphere.sharding.algorithm.sharding.range.BoundaryBasedRangeShardingAlgorithm;
@@ -34,6 +35,7 @@ public final class BuiltInCacheableShardingAlgorithmClassProvider implements Cac
     
     @Override
     public Collection<Class<? extends ShardingAlgorithm>> getCacheableShardingAlgorithmClasses() {
-        return Arrays.asList(ModShardingAlgorithm.class, HashModShardingAlgorithm.class, VolumeBasedRangeShardingAlgorithm.class, BoundaryBasedRangeShardingAlgorithm.class);
+        return Arrays.asList(ModShardingAlgorithm.class, HashModShardingAlgorithm.class, VolumeBasedRangeShardingAlgorithm.class, BoundaryBasedRangeShardingAlgorithm.class,
+                IntervalShardingAlgorithm.class);
     }
 }
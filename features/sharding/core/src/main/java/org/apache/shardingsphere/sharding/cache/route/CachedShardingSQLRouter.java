@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRule
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKey;
@@ -30,11 +31,17 @@ import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheVa
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Cached sharding SQL router.
+ *
+ * <p>Route results hit more than one shard are cached only if cache entries are weighed by estimated size,
+ * and parameters of IN list are sorted in cache key, so the same values in different order share one cache entry.</p>
  */
 public final class CachedShardingSQLRouter {
     
@@ -60,24 +67,54 @@ public final class CachedShardingSQLRouter {
         if (!cacheableCheckResult.isProbablyCacheable()) {
             return Optional.empty();
         }
-        List<Object> shardingConditionParams = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
         for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
             if (each >= queryContext.getParameters().size()) {
                 return Optional.empty();
             }
-            shardingConditionParams.add(queryContext.getParameters().get(each));
         }
-        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams))
-                .flatMap(ShardingRouteCacheValue::getCachedRouteContext);
+        ShardingRouteCacheKey cacheKey = new ShardingRouteCacheKey(queryContext.getSql(), getShardingConditionParameters(cacheableCheckResult, queryContext.getParameters()));
+        Optional<RouteContext> cachedResult = shardingCache.getRouteCache().get(cacheKey).flatMap(ShardingRouteCacheValue::getCachedRouteContext);
         RouteContext result = cachedResult.orElseGet(
                 () -> originSQLRouter.createRouteContext(queryContext, globalRuleMetaData, database, shardingCache.getShardingRule(), props, connectionContext));
-        if (!cachedResult.isPresent() && hitOneShardOnly(result)) {
-            shardingCache.getRouteCache().put(new ShardingRouteCacheKey(queryContext.getSql(), shardingConditionParams), new ShardingRouteCacheValue(result));
+        if (!cachedResult.isPresent() && isRouteContextCacheable(result, shardingCache.getConfiguration().getRouteCache())) {
+            shardingCache.getRouteCache().put(cacheKey, new ShardingRouteCacheValue(result));
         }
         return Optional.of(result);
     }
     
-    private boolean hitOneShardOnly(final RouteContext routeContext) {
+    private List<Object> getShardingConditionParameters(final ShardingRouteCacheableCheckResult cacheableCheckResult, final List<Object> params) {
+        Collection<Integer> unorderedParameterMarkerIndexes = new HashSet<>();
+        cacheableCheckResult.getUnorderedParameterMarkerIndexGroups().forEach(unorderedParameterMarkerIndexes::addAll);
+        List<Object> result = new ArrayList<>(cacheableCheckResult.getShardingConditionParameterMarkerIndexes().size());
+        for (int each : cacheableCheckResult.getShardingConditionParameterMarkerIndexes()) {
+            if (!unorderedParameterMarkerIndexes.contains(each)) {
+                result.add(params.get(each));
+            }
+        }
+        for (List<Integer> each : cacheableCheckResult.getUnorderedParameterMarkerIndexGroups()) {
+            result.add(getSortedParameters(each, params));
+        }
+        return result;
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> getSortedParameters(final List<Integer> parameterMarkerIndexes, final List<Object> params) {
+        List<Object> result = parameterMarkerIndexes.stream().map(params::get).collect(Collectors.toList());
+        Class<?> valueClass = null == result.get(0) ? null : result.get(0).getClass();
+        if (null != valueClass && Comparable.class.isAssignableFrom(valueClass) && result.stream().allMatch(each -> null != each && valueClass == each.getClass())) {
+            result.sort((o1, o2) -> ((Comparable) o1).compareTo(o2));
+        }
+        return result;
+    }
+    
+    private boolean isRouteContextCacheable(final RouteContext routeContext, final ShardingCacheOptionsConfiguration cacheOptions) {
+        if (routeContext.getRouteUnits().isEmpty()) {
+            return false;
+        }
+        return isHitOneShardOnly(routeContext) || null != cacheOptions && cacheOptions.getMaximumWeight() > 0L;
+    }
+    
+    private boolean isHitOneShardOnly(final RouteContext routeContext) {
         return 1 == routeContext.getRouteUnits().size() && 1 == routeContext.getRouteUnits().iterator().next().getTableMappers().size()
                 && 1 == routeContext.getOriginalDataNodes().size() && 1 == routeContext.getOriginalDataNodes().iterator().next().size();
     }
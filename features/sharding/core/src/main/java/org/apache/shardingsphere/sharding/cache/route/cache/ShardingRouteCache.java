@@ -19,9 +19,11 @@ package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy.Eviction;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 
 import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Cache for sharding route.
@@ -35,10 +37,14 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).recordStats();
         if (cacheOptions.isSoftValues()) {
-            result.softValues();
+            builder.softValues();
         }
+        if (cacheOptions.getMaximumWeight() <= 0L) {
+            return builder.maximumSize(cacheOptions.getMaximumSize()).build();
+        }
+        Caffeine<ShardingRouteCacheKey, ShardingRouteCacheValue> result = builder.maximumWeight(cacheOptions.getMaximumWeight()).weigher((key, value) -> key.estimateSize() + value.estimateSize());
         return result.build();
     }
     
@@ -61,4 +67,22 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Get hit ratio.
+     *
+     * @return hit ratio
+     */
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+    
+    /**
+     * Get estimated size of cached route results.
+     *
+     * @return estimated size in bytes if weighed by size, otherwise entry count
+     */
+    public long getWeightedSize() {
+        return cache.policy().eviction().map(Eviction::weightedSize).orElseGet(OptionalLong::empty).orElseGet(cache::estimatedSize);
+    }
 }
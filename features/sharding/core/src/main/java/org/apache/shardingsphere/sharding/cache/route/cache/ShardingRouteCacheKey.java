@@ -34,4 +34,13 @@ public final class ShardingRouteCacheKey {
     private final String sql;
     
     private final List<Object> shardingConditionParameters;
+    
+    /**
+     * Estimate size in bytes.
+     *
+     * @return estimated size in bytes
+     */
+    public int estimateSize() {
+        return ShardingRouteCacheSizeUtils.estimateObjectSize(2) + ShardingRouteCacheSizeUtils.estimateStringSize(sql) + ShardingRouteCacheSizeUtils.estimateValueSize(shardingConditionParameters);
+    }
 }
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.cache.route.cache;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Collection;
+
+/**
+ * Sharding route cache size utility class.
+ *
+ * <p>Sizes are estimated in bytes for 64-bit JVM with compressed references, they are used to weigh cache entries but not to measure exact footprint.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ShardingRouteCacheSizeUtils {
+    
+    private static final int OBJECT_HEADER_BYTES = 16;
+    
+    private static final int REFERENCE_BYTES = 4;
+    
+    private static final int ARRAY_HEADER_BYTES = 16;
+    
+    private static final int STRING_SHALLOW_BYTES = 24;
+    
+    private static final int COLLECTION_SHALLOW_BYTES = 24;
+    
+    private static final int BOXED_VALUE_BYTES = 16;
+    
+    /**
+     * Estimate size of object with reference fields only.
+     *
+     * @param referenceCount reference fields count
+     * @return estimated size in bytes
+     */
+    public static int estimateObjectSize(final int referenceCount) {
+        return OBJECT_HEADER_BYTES + referenceCount * REFERENCE_BYTES;
+    }
+    
+    /**
+     * Estimate size of collection, elements are excluded.
+     *
+     * @param collection collection
+     * @return estimated size in bytes
+     */
+    public static int estimateCollectionSize(final Collection<?> collection) {
+        return COLLECTION_SHALLOW_BYTES + ARRAY_HEADER_BYTES + collection.size() * REFERENCE_BYTES;
+    }
+    
+    /**
+     * Estimate size of string.
+     *
+     * @param value string value
+     * @return estimated size in bytes
+     */
+    public static int estimateStringSize(final String value) {
+        return null == value ? 0 : STRING_SHALLOW_BYTES + ARRAY_HEADER_BYTES + value.length() * Character.BYTES;
+    }
+    
+    /**
+     * Estimate size of parameter value.
+     *
+     * @param value parameter value
+     * @return estimated size in bytes
+     */
+    public static int estimateValueSize(final Object value) {
+        if (null == value) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return estimateStringSize((String) value);
+        }
+        if (value instanceof Collection) {
+            int result = estimateCollectionSize((Collection<?>) value);
+            for (Object each : (Collection<?>) value) {
+                result += estimateValueSize(each);
+            }
+            return result;
+        }
+        return BOXED_VALUE_BYTES;
+    }
+}
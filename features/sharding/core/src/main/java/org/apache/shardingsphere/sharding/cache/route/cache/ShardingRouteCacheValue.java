@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteStageContext;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
@@ -53,6 +54,39 @@ public final class ShardingRouteCacheValue {
         return cacheable ? Optional.of(deepCopyRouteContext()) : Optional.empty();
     }
     
+    /**
+     * Estimate size in bytes.
+     *
+     * @return estimated size in bytes
+     */
+    public int estimateSize() {
+        int result = ShardingRouteCacheSizeUtils.estimateObjectSize(2);
+        if (!cacheable) {
+            return result;
+        }
+        result += ShardingRouteCacheSizeUtils.estimateObjectSize(3) + ShardingRouteCacheSizeUtils.estimateCollectionSize(cachedRouteContext.getOriginalDataNodes());
+        for (Collection<DataNode> eachDataNodes : cachedRouteContext.getOriginalDataNodes()) {
+            result += ShardingRouteCacheSizeUtils.estimateCollectionSize(eachDataNodes);
+            for (DataNode each : eachDataNodes) {
+                result += ShardingRouteCacheSizeUtils.estimateObjectSize(3)
+                        + ShardingRouteCacheSizeUtils.estimateStringSize(each.getDataSourceName()) + ShardingRouteCacheSizeUtils.estimateStringSize(each.getTableName());
+            }
+        }
+        result += ShardingRouteCacheSizeUtils.estimateCollectionSize(cachedRouteContext.getRouteUnits());
+        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+            result += ShardingRouteCacheSizeUtils.estimateObjectSize(2) + estimateSize(each.getDataSourceMapper()) + ShardingRouteCacheSizeUtils.estimateCollectionSize(each.getTableMappers());
+            for (RouteMapper eachTableMapper : each.getTableMappers()) {
+                result += estimateSize(eachTableMapper);
+            }
+        }
+        return result;
+    }
+    
+    private int estimateSize(final RouteMapper routeMapper) {
+        return ShardingRouteCacheSizeUtils.estimateObjectSize(2)
+                + ShardingRouteCacheSizeUtils.estimateStringSize(routeMapper.getLogicName()) + ShardingRouteCacheSizeUtils.estimateStringSize(routeMapper.getActualName());
+    }
+    
     private RouteContext deepCopyRouteContext() {
         RouteContext result = new RouteContext();
         result.getOriginalDataNodes().addAll(deepCopyOriginalDataNodes());
@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Memory aggregator for group by, which aggregates rows of query results into groups.
+ */
+public final class GroupByMemoryAggregator {
+    
+    private final Collection<OrderByItem> groupByItems;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+    
+    private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+    
+    public GroupByMemoryAggregator(final SelectStatementContext selectStatementContext) {
+        groupByItems = selectStatementContext.getGroupByContext().getItems();
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+    }
+    
+    /**
+     * Judge whether partial aggregations can be combined.
+     * 
+     * <p>Distinct aggregation units keep distinct values rather than partial results, so they can not be combined.</p>
+     *
+     * @param selectStatementContext select statement context
+     * @return can be combined or not
+     */
+    public static boolean isCombinable(final SelectStatementContext selectStatementContext) {
+        return selectStatementContext.getProjectionsContext().getAggregationProjections().stream().noneMatch(AggregationDistinctProjection.class::isInstance);
+    }
+    
+    /**
+     * Aggregate all rows of query result.
+     *
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    public void aggregate(final QueryResult queryResult) throws SQLException {
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, groupByItems);
+            initForFirstGroupByValue(queryResult, groupByValue);
+            aggregate(queryResult, groupByValue);
+        }
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(groupByValue);
+        for (AggregationProjection each : aggregationProjections) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationUnits.get(each).merge(values);
+        }
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        aggregationMap.computeIfAbsent(groupByValue, unused -> createAggregationUnits());
+    }
+    
+    private Map<AggregationProjection, AggregationUnit> createAggregationUnits() {
+        return aggregationProjections.stream().collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection)));
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+    
+    /**
+     * Combine partial aggregation of another aggregator into this one.
+     * 
+     * <p>Partial results are merged with aggregation unit merge semantics, average is combined by its derived count and sum.</p>
+     *
+     * @param partial partial aggregator
+     */
+    public void combine(final GroupByMemoryAggregator partial) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : partial.dataMap.entrySet()) {
+            Map<AggregationProjection, AggregationUnit> partialUnits = partial.aggregationMap.get(entry.getKey());
+            Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            if (null == aggregationUnits) {
+                dataMap.put(entry.getKey(), entry.getValue());
+                aggregationMap.put(entry.getKey(), partialUnits);
+                continue;
+            }
+            for (AggregationProjection each : aggregationProjections) {
+                aggregationUnits.get(each).merge(getPartialValues(each, partialUnits));
+            }
+        }
+    }
+    
+    private List<Comparable<?>> getPartialValues(final AggregationProjection aggregationProjection, final Map<AggregationProjection, AggregationUnit> partialUnits) {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return Collections.singletonList(partialUnits.get(aggregationProjection).getResult());
+        }
+        List<Comparable<?>> result = new ArrayList<>(2);
+        for (AggregationProjection each : aggregationProjection.getDerivedAggregationProjections()) {
+            result.add(partialUnits.get(each).getResult());
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether no group aggregated.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return dataMap.isEmpty();
+    }
+    
+    /**
+     * Get rows with aggregation results.
+     *
+     * @return rows with aggregation results
+     */
+    public List<MemoryQueryResultRow> getRows() {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+            for (AggregationProjection each : aggregationProjections) {
+                entry.getValue().setCell(each.getIndex(), aggregationUnits.get(each).getResult());
+            }
+        }
+        return new ArrayList<>(dataMap.values());
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.AbstractMemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel memory merged result for group by.
+ * 
+ * <p>Each query result is aggregated into a partial aggregator by a worker of kernel executor engine,
+ * partial aggregators are combined on the calling thread in completion order, so that fast shards are combined while slow shards are still streaming.</p>
+ */
+public final class GroupByParallelMemoryMergedResult extends AbstractMemoryMergedResult {
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    public GroupByParallelMemoryMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                             final ShardingSphereSchema schema, final ExecutorEngine executorEngine) throws SQLException {
+        List<MemoryQueryResultRow> memoryQueryResultRows = init(queryResults, selectStatementContext, schema, executorEngine);
+        memoryResultSetRows = memoryQueryResultRows.iterator();
+        if (!memoryQueryResultRows.isEmpty()) {
+            setCurrentResultSetRow(memoryQueryResultRows.get(0));
+        }
+    }
+    
+    private List<MemoryQueryResultRow> init(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                            final ShardingSphereSchema schema, final ExecutorEngine executorEngine) throws SQLException {
+        CompletionService<GroupByMemoryAggregator> completionService = new ExecutorCompletionService<>(executorEngine.getExecutorServiceManager().getExecutorService());
+        Collection<Future<GroupByMemoryAggregator>> futures = new LinkedList<>();
+        for (QueryResult each : queryResults) {
+            futures.add(completionService.submit(() -> aggregate(selectStatementContext, each)));
+        }
+        GroupByMemoryAggregator result = new GroupByMemoryAggregator(selectStatementContext);
+        combine(result, completionService, queryResults.size(), futures);
+        return GroupByMergedResultUtils.getSortedRows(result, selectStatementContext, GroupByMergedResultUtils.getValueCaseSensitive(queryResults, selectStatementContext, schema));
+    }
+    
+    private GroupByMemoryAggregator aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult) throws SQLException {
+        GroupByMemoryAggregator result = new GroupByMemoryAggregator(selectStatementContext);
+        result.aggregate(queryResult);
+        return result;
+    }
+    
+    private void combine(final GroupByMemoryAggregator aggregator, final CompletionService<GroupByMemoryAggregator> completionService, final int partialCount,
+                         final Collection<Future<GroupByMemoryAggregator>> futures) throws SQLException {
+        try {
+            for (int i = 0; i < partialCount; i++) {
+                aggregator.combine(completionService.take().get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            futures.forEach(each -> each.cancel(true));
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            futures.forEach(each -> each.cancel(true));
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new UnknownSQLException(ex);
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (memoryResultSetRows.hasNext()) {
+            setCurrentResultSetRow(memoryResultSetRows.next());
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.AbstractMemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator.ColumnAccumulator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupByHashTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.GroupBySpillFiles;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillPartition;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.spill.SpillRunCursor;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Spillable merged result for group by.
+ * 
+ * <p>Groups are aggregated in an open addressing hash table with column accumulators.
+ * Once the groups in memory exceed the spill threshold, partial states are spilled to local temp files and re-merged partition by partition.
+ * Temp files are deleted when the merged result is exhausted or closed.
+ * Results with columns which can not be serialized, such as LOB or array, are never spilled.</p>
+ */
+public final class GroupBySpillableMergedResult extends AbstractMemoryMergedResult {
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int[] groupByIndexes;
+    
+    private final int spillThreshold;
+    
+    private final boolean spillable;
+    
+    private final GroupByRowComparator comparator;
+    
+    private GroupBySpillFiles spillFiles;
+    
+    private Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private PriorityQueue<SpillRunCursor> spillRunCursors;
+    
+    public GroupBySpillableMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                        final ShardingSphereSchema schema, final int spillThreshold) throws SQLException {
+        aggregationProjections = selectStatementContext.getProjectionsContext().getAggregationProjections();
+        groupByIndexes = selectStatementContext.getGroupByContext().getItems().stream().mapToInt(OrderByItem::getIndex).toArray();
+        this.spillThreshold = Math.max(1, spillThreshold);
+        spillable = isSpillable(queryResults.get(0));
+        comparator = new GroupByRowComparator(selectStatementContext, GroupByMergedResultUtils.getValueCaseSensitive(queryResults, selectStatementContext, schema));
+        try {
+            init(queryResults, selectStatementContext);
+        } catch (final IOException | ClassNotFoundException ex) {
+            SQLException sqlException = new SQLException("Spill group by merged result failed", ex);
+            closeSpillFiles(sqlException);
+            throw sqlException;
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            closeSpillFiles(ex);
+            throw ex;
+        }
+    }
+    
+    private boolean isSpillable(final QueryResult queryResult) throws SQLException {
+        for (int i = 1; i <= queryResult.getMetaData().getColumnCount(); i++) {
+            if (!isSerializableColumnType(queryResult.getMetaData().getColumnType(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private boolean isSerializableColumnType(final int columnType) {
+        switch (columnType) {
+            case Types.BLOB:
+            case Types.CLOB:
+            case Types.NCLOB:
+            case Types.ARRAY:
+            case Types.STRUCT:
+            case Types.REF:
+            case Types.SQLXML:
+            case Types.ROWID:
+            case Types.DATALINK:
+            case Types.JAVA_OBJECT:
+            case Types.OTHER:
+                return false;
+            default:
+                return true;
+        }
+    }
+    
+    private void init(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) throws SQLException, IOException, ClassNotFoundException {
+        GroupByHashTable hashTable = aggregate(queryResults);
+        if (null == spillFiles) {
+            List<MemoryQueryResultRow> rows = getSortedRows(hashTable);
+            memoryResultSetRows = rows.isEmpty() ? GroupByMergedResultUtils.getEmptyGroupByResultRows(selectStatementContext).iterator() : rows.iterator();
+            return;
+        }
+        spillFiles.spill(hashTable);
+        int columnCount = queryResults.iterator().next().getMetaData().getColumnCount();
+        Deque<SpillPartition> partitions = new LinkedList<>(spillFiles.getPartitions());
+        while (!partitions.isEmpty()) {
+            GroupByHashTable partitionHashTable = new GroupByHashTable(aggregationProjections);
+            partitions.addAll(spillFiles.mergePartition(partitions.poll(), partitionHashTable, spillThreshold));
+            spillFiles.writeRun(getSortedRows(partitionHashTable), columnCount);
+        }
+        Collection<SpillRunCursor> cursors = spillFiles.openRuns();
+        spillRunCursors = new PriorityQueue<>(Math.max(1, cursors.size()), (o1, o2) -> comparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        for (SpillRunCursor each : cursors) {
+            if (each.next()) {
+                spillRunCursors.offer(each);
+            }
+        }
+    }
+    
+    private GroupByHashTable aggregate(final List<QueryResult> queryResults) throws SQLException, IOException {
+        GroupByHashTable result = new GroupByHashTable(aggregationProjections);
+        Object[] groupValuesBuffer = new Object[groupByIndexes.length];
+        for (QueryResult each : queryResults) {
+            int columnCount = each.getMetaData().getColumnCount();
+            while (each.next()) {
+                loadGroupValues(each, groupValuesBuffer);
+                int hash = GroupByHashTable.hash(groupValuesBuffer);
+                int slot = result.find(groupValuesBuffer, hash);
+                if (slot < 0) {
+                    if (spillable && result.getSize() >= spillThreshold) {
+                        spill(result);
+                        result = new GroupByHashTable(aggregationProjections);
+                    }
+                    slot = result.insert(groupValuesBuffer.clone(), hash, loadRow(each, columnCount));
+                }
+                for (ColumnAccumulator accumulator : result.getAccumulators()) {
+                    accumulator.accumulate(slot, each);
+                }
+            }
+        }
+        return result;
+    }
+    
+    private void loadGroupValues(final QueryResult queryResult, final Object[] groupValues) throws SQLException {
+        for (int i = 0; i < groupByIndexes.length; i++) {
+            groupValues[i] = queryResult.getValue(groupByIndexes[i], Object.class);
+        }
+    }
+    
+    private Object[] loadRow(final QueryResult queryResult, final int columnCount) throws SQLException {
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        return result;
+    }
+    
+    private void spill(final GroupByHashTable hashTable) throws IOException {
+        if (null == spillFiles) {
+            spillFiles = new GroupBySpillFiles();
+        }
+        spillFiles.spill(hashTable);
+    }
+    
+    private List<MemoryQueryResultRow> getSortedRows(final GroupByHashTable hashTable) {
+        if (0 == hashTable.getSize()) {
+            return Collections.emptyList();
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(hashTable.getSize());
+        for (Object[] each : hashTable.buildRows()) {
+            result.add(new MemoryQueryResultRow(each));
+        }
+        result.sort(comparator);
+        return result;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null == spillRunCursors) {
+            if (memoryResultSetRows.hasNext()) {
+                setCurrentResultSetRow(memoryResultSetRows.next());
+                return true;
+            }
+            return false;
+        }
+        SpillRunCursor cursor = spillRunCursors.poll();
+        if (null == cursor) {
+            closeSpillFiles();
+            return false;
+        }
+        setCurrentResultSetRow(cursor.getCurrentRow());
+        try {
+            if (cursor.next()) {
+                spillRunCursors.offer(cursor);
+            }
+        } catch (final IOException | ClassNotFoundException ex) {
+            SQLException sqlException = new SQLException("Read spilled group by merged result failed", ex);
+            closeSpillFiles(sqlException);
+            throw sqlException;
+        }
+        return true;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        if (null != spillRunCursors) {
+            spillRunCursors.clear();
+        }
+        closeSpillFiles();
+    }
+    
+    private void closeSpillFiles() throws SQLException {
+        if (null == spillFiles) {
+            return;
+        }
+        try {
+            spillFiles.close();
+        } catch (final IOException ex) {
+            throw new SQLException("Delete spilled group by temp files failed", ex);
+        } finally {
+            spillFiles = null;
+        }
+    }
+    
+    private void closeSpillFiles(final Exception cause) {
+        try {
+            closeSpillFiles();
+        } catch (final SQLException ex) {
+            cause.addSuppressed(ex);
+        }
+    }
+}
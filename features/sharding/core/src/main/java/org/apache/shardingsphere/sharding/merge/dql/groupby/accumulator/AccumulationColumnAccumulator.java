@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Accumulation column accumulator for COUNT and SUM.
+ * 
+ * <p>Integral values are summed in primitive longs, and the slot is promoted to {@link BigDecimal} on overflow or when a non integral value arrives.
+ * Integral values of memory query results are read without boxing.</p>
+ */
+@RequiredArgsConstructor
+public final class AccumulationColumnAccumulator implements ColumnAccumulator {
+    
+    private final int columnIndex;
+    
+    private long[] longSums = new long[0];
+    
+    private BigDecimal[] decimalSums = new BigDecimal[0];
+    
+    private boolean[] accumulated = new boolean[0];
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        if (capacity > longSums.length) {
+            longSums = Arrays.copyOf(longSums, capacity);
+            decimalSums = Arrays.copyOf(decimalSums, capacity);
+            accumulated = Arrays.copyOf(accumulated, capacity);
+        }
+    }
+    
+    @Override
+    public void accumulate(final int slot, final QueryResult queryResult) throws SQLException {
+        if (queryResult instanceof AbstractMemoryQueryResult && ((AbstractMemoryQueryResult) queryResult).isIntegral(columnIndex)) {
+            add(slot, ((AbstractMemoryQueryResult) queryResult).getLong(columnIndex));
+            return;
+        }
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        add(slot, value);
+    }
+    
+    void add(final int slot, final Object value) {
+        if (null == value) {
+            return;
+        }
+        if (isIntegral(value)) {
+            add(slot, ((Number) value).longValue());
+            return;
+        }
+        accumulated[slot] = true;
+        decimalSums[slot] = getDecimalSum(slot).add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    private void add(final int slot, final long augend) {
+        accumulated[slot] = true;
+        if (null == decimalSums[slot]) {
+            long sum = longSums[slot] + augend;
+            if (((longSums[slot] ^ sum) & (augend ^ sum)) >= 0L) {
+                longSums[slot] = sum;
+                return;
+            }
+        }
+        decimalSums[slot] = getDecimalSum(slot).add(BigDecimal.valueOf(augend));
+    }
+    
+    private BigDecimal getDecimalSum(final int slot) {
+        return null == decimalSums[slot] ? BigDecimal.valueOf(longSums[slot]) : decimalSums[slot];
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public Object getState(final int slot) {
+        if (!accumulated[slot]) {
+            return null;
+        }
+        return null == decimalSums[slot] ? (Object) longSums[slot] : decimalSums[slot];
+    }
+    
+    @Override
+    public void mergeState(final int slot, final Object state) {
+        add(slot, state);
+    }
+    
+    @Override
+    public BigDecimal getResult(final int slot) {
+        if (!accumulated[slot]) {
+            return null;
+        }
+        return null == decimalSums[slot] ? BigDecimal.valueOf(longSums[slot]) : decimalSums[slot];
+    }
+}
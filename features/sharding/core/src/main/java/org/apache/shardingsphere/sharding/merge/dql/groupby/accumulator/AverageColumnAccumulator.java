@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AverageAggregationUnit;
+
+import java.sql.SQLException;
+
+/**
+ * Average column accumulator.
+ */
+public final class AverageColumnAccumulator implements ColumnAccumulator {
+    
+    private final int countColumnIndex;
+    
+    private final int sumColumnIndex;
+    
+    private final AccumulationColumnAccumulator count;
+    
+    private final AccumulationColumnAccumulator sum;
+    
+    public AverageColumnAccumulator(final int countColumnIndex, final int sumColumnIndex) {
+        this.countColumnIndex = countColumnIndex;
+        this.sumColumnIndex = sumColumnIndex;
+        count = new AccumulationColumnAccumulator(countColumnIndex);
+        sum = new AccumulationColumnAccumulator(sumColumnIndex);
+    }
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        count.ensureCapacity(capacity);
+        sum.ensureCapacity(capacity);
+    }
+    
+    @Override
+    public void accumulate(final int slot, final QueryResult queryResult) throws SQLException {
+        Object countValue = getValue(queryResult, countColumnIndex);
+        Object sumValue = getValue(queryResult, sumColumnIndex);
+        if (null == countValue || null == sumValue) {
+            return;
+        }
+        count.add(slot, countValue);
+        sum.add(slot, sumValue);
+    }
+    
+    private Object getValue(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return result;
+    }
+    
+    @Override
+    public Object getState(final int slot) {
+        Object countState = count.getState(slot);
+        return null == countState ? null : new Object[]{countState, sum.getState(slot)};
+    }
+    
+    @Override
+    public void mergeState(final int slot, final Object state) {
+        if (null == state) {
+            return;
+        }
+        Object[] states = (Object[]) state;
+        count.add(slot, states[0]);
+        sum.add(slot, states[1]);
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return AverageAggregationUnit.getResult(count.getResult(slot), sum.getResult(slot));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+
+/**
+ * Column accumulator which keeps aggregation states of all groups in slot indexed arrays.
+ */
+public interface ColumnAccumulator {
+    
+    /**
+     * Ensure accumulator can hold states of slots less than capacity.
+     *
+     * @param capacity capacity
+     */
+    void ensureCapacity(int capacity);
+    
+    /**
+     * Accumulate current row of query result into slot.
+     *
+     * @param slot slot of group
+     * @param queryResult query result
+     * @throws SQLException SQL exception
+     */
+    void accumulate(int slot, QueryResult queryResult) throws SQLException;
+    
+    /**
+     * Get partial state of slot, which can be written to spill files.
+     *
+     * @param slot slot of group
+     * @return partial state, null means no value accumulated
+     */
+    Object getState(int slot);
+    
+    /**
+     * Merge partial state into slot.
+     *
+     * @param slot slot of group
+     * @param state partial state
+     */
+    void mergeState(int slot, Object state);
+    
+    /**
+     * Get aggregation result of slot.
+     *
+     * @param slot slot of group
+     * @return aggregation result
+     */
+    Comparable<?> getResult(int slot);
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnsupportedSQLOperationException;
+
+import java.util.Collection;
+
+/**
+ * Column accumulator factory.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ColumnAccumulatorFactory {
+    
+    /**
+     * Judge whether all aggregation projections are supported by column accumulators.
+     *
+     * @param aggregationProjections aggregation projections
+     * @return supported or not
+     */
+    public static boolean isSupported(final Collection<AggregationProjection> aggregationProjections) {
+        for (AggregationProjection each : aggregationProjections) {
+            if (each instanceof AggregationDistinctProjection) {
+                return false;
+            }
+            switch (each.getType()) {
+                case MAX:
+                case MIN:
+                case SUM:
+                case COUNT:
+                    break;
+                case AVG:
+                    if (2 != each.getDerivedAggregationProjections().size()) {
+                        return false;
+                    }
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Create column accumulator instance.
+     *
+     * @param aggregationProjection aggregation projection
+     * @return column accumulator instance
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static ColumnAccumulator create(final AggregationProjection aggregationProjection) {
+        switch (aggregationProjection.getType()) {
+            case MAX:
+                return new ComparableColumnAccumulator(aggregationProjection.getIndex(), false);
+            case MIN:
+                return new ComparableColumnAccumulator(aggregationProjection.getIndex(), true);
+            case SUM:
+            case COUNT:
+                return new AccumulationColumnAccumulator(aggregationProjection.getIndex());
+            case AVG:
+                return new AverageColumnAccumulator(aggregationProjection.getDerivedAggregationProjections().get(0).getIndex(),
+                        aggregationProjection.getDerivedAggregationProjections().get(1).getIndex());
+            default:
+                throw new UnsupportedSQLOperationException(aggregationProjection.getType().name());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+
+/**
+ * Comparable column accumulator for MIN and MAX.
+ */
+@RequiredArgsConstructor
+public final class ComparableColumnAccumulator implements ColumnAccumulator {
+    
+    private final int columnIndex;
+    
+    private final boolean asc;
+    
+    private Comparable<?>[] values = new Comparable<?>[0];
+    
+    @Override
+    public void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, capacity);
+        }
+    }
+    
+    @Override
+    public void accumulate(final int slot, final QueryResult queryResult) throws SQLException {
+        Object value = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+        mergeState(slot, value);
+    }
+    
+    @Override
+    public Object getState(final int slot) {
+        return values[slot];
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public void mergeState(final int slot, final Object state) {
+        if (null == state) {
+            return;
+        }
+        if (null == values[slot]) {
+            values[slot] = (Comparable<?>) state;
+            return;
+        }
+        int comparedValue = ((Comparable) state).compareTo(values[slot]);
+        if (asc ? comparedValue < 0 : comparedValue > 0) {
+            values[slot] = (Comparable<?>) state;
+        }
+    }
+    
+    @Override
+    public Comparable<?> getResult(final int slot) {
+        return values[slot];
+    }
+}
@@ -50,6 +50,17 @@ public final class AverageAggregationUnit implements AggregationUnit {
     
     @Override
     public Comparable<?> getResult() {
+        return getResult(count, sum);
+    }
+    
+    /**
+     * Get average result.
+     *
+     * @param count count
+     * @param sum sum
+     * @return average result
+     */
+    public static Comparable<?> getResult(final BigDecimal count, final BigDecimal sum) {
         if (null == count || BigDecimal.ZERO.equals(count)) {
             return count;
         }
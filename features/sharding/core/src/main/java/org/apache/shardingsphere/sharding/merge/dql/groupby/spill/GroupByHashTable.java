@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator.ColumnAccumulator;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator.ColumnAccumulatorFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Open addressing hash table for group by, rows and aggregation states of groups are kept in slot indexed arrays.
+ */
+public final class GroupByHashTable {
+    
+    private static final int INITIAL_CAPACITY = 1024;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final ColumnAccumulator[] accumulators;
+    
+    private int[] buckets;
+    
+    private int[] hashes;
+    
+    private Object[][] groupValues;
+    
+    private Object[][] rows;
+    
+    @Getter
+    private int size;
+    
+    public GroupByHashTable(final List<AggregationProjection> aggregationProjections) {
+        this.aggregationProjections = new ArrayList<>(aggregationProjections);
+        accumulators = new ColumnAccumulator[aggregationProjections.size()];
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i] = ColumnAccumulatorFactory.create(aggregationProjections.get(i));
+            accumulators[i].ensureCapacity(INITIAL_CAPACITY);
+        }
+        buckets = new int[INITIAL_CAPACITY * 2];
+        hashes = new int[INITIAL_CAPACITY];
+        groupValues = new Object[INITIAL_CAPACITY][];
+        rows = new Object[INITIAL_CAPACITY][];
+    }
+    
+    /**
+     * Calculate hash of group values.
+     *
+     * @param groupValues group values
+     * @return hash
+     */
+    public static int hash(final Object[] groupValues) {
+        int result = Arrays.hashCode(groupValues);
+        return result ^ (result >>> 16);
+    }
+    
+    /**
+     * Find slot of group values.
+     *
+     * @param groupValues group values
+     * @param hash hash of group values
+     * @return slot, -1 if absent
+     */
+    public int find(final Object[] groupValues, final int hash) {
+        int mask = buckets.length - 1;
+        for (int index = hash & mask;; index = (index + 1) & mask) {
+            int slot = buckets[index] - 1;
+            if (slot < 0) {
+                return -1;
+            }
+            if (hashes[slot] == hash && Arrays.equals(this.groupValues[slot], groupValues)) {
+                return slot;
+            }
+        }
+    }
+    
+    /**
+     * Insert new group, group values must be absent.
+     *
+     * @param groupValues group values
+     * @param hash hash of group values
+     * @param row first row of group
+     * @return slot of group
+     */
+    public int insert(final Object[] groupValues, final int hash, final Object[] row) {
+        if (size == hashes.length) {
+            grow();
+        }
+        int result = size++;
+        hashes[result] = hash;
+        this.groupValues[result] = groupValues;
+        rows[result] = row;
+        putBucket(result);
+        return result;
+    }
+    
+    private void grow() {
+        int capacity = hashes.length * 2;
+        hashes = Arrays.copyOf(hashes, capacity);
+        groupValues = Arrays.copyOf(groupValues, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        for (ColumnAccumulator each : accumulators) {
+            each.ensureCapacity(capacity);
+        }
+        buckets = new int[capacity * 2];
+        for (int slot = 0; slot < size; slot++) {
+            putBucket(slot);
+        }
+    }
+    
+    private void putBucket(final int slot) {
+        int mask = buckets.length - 1;
+        int index = hashes[slot] & mask;
+        while (0 != buckets[index]) {
+            index = (index + 1) & mask;
+        }
+        buckets[index] = slot + 1;
+    }
+    
+    /**
+     * Get accumulators.
+     *
+     * @return accumulators in the order of aggregation projections
+     */
+    public ColumnAccumulator[] getAccumulators() {
+        return accumulators;
+    }
+    
+    /**
+     * Get hash of slot.
+     *
+     * @param slot slot
+     * @return hash
+     */
+    public int getHash(final int slot) {
+        return hashes[slot];
+    }
+    
+    /**
+     * Get group values of slot.
+     *
+     * @param slot slot
+     * @return group values
+     */
+    public Object[] getGroupValues(final int slot) {
+        return groupValues[slot];
+    }
+    
+    /**
+     * Get first row of slot.
+     *
+     * @param slot slot
+     * @return row data
+     */
+    public Object[] getRow(final int slot) {
+        return rows[slot];
+    }
+    
+    /**
+     * Get partial aggregation states of slot.
+     *
+     * @param slot slot
+     * @return states in the order of aggregation projections
+     */
+    public Object[] getStates(final int slot) {
+        Object[] result = new Object[accumulators.length];
+        for (int i = 0; i < accumulators.length; i++) {
+            result[i] = accumulators[i].getState(slot);
+        }
+        return result;
+    }
+    
+    /**
+     * Merge partial aggregation states into slot.
+     *
+     * @param slot slot
+     * @param states states in the order of aggregation projections
+     */
+    public void mergeStates(final int slot, final Object[] states) {
+        for (int i = 0; i < accumulators.length; i++) {
+            accumulators[i].mergeState(slot, states[i]);
+        }
+    }
+    
+    /**
+     * Build result rows with aggregation results.
+     *
+     * @return result rows
+     */
+    public List<Object[]> buildRows() {
+        List<Object[]> result = new ArrayList<>(size);
+        for (int slot = 0; slot < size; slot++) {
+            Object[] row = rows[slot];
+            for (int i = 0; i < accumulators.length; i++) {
+                row[aggregationProjections.get(i).getIndex() - 1] = accumulators[i].getResult(slot);
+            }
+            result.add(row);
+        }
+        return result;
+    }
+}
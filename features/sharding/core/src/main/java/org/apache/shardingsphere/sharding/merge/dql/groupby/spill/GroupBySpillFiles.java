@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Local temp files of spilled group by states.
+ * 
+ * <p>Groups are spilled into hash partitions, so that all partial states of a group are re-merged within one partition.
+ * A partition is re-merged into a hash table bounded by capacity, groups which do not fit are re-partitioned with the hash seed of next level.
+ * Re-merged hash tables are written back as sorted runs, which are merged with k-way merge at last.</p>
+ */
+public final class GroupBySpillFiles implements AutoCloseable {
+    
+    private static final int PARTITION_COUNT = 16;
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path directory;
+    
+    private final SpillPartition[] partitions = new SpillPartition[PARTITION_COUNT];
+    
+    private final Collection<SpillPartition> openedPartitions = new LinkedList<>();
+    
+    private final Collection<Path> runFiles = new LinkedList<>();
+    
+    private final Collection<SpillRunCursor> runCursors = new LinkedList<>();
+    
+    public GroupBySpillFiles() throws IOException {
+        directory = Files.createTempDirectory("shardingsphere-group-by-");
+    }
+    
+    /**
+     * Spill all groups of hash table into partitions.
+     *
+     * @param hashTable hash table
+     * @throws IOException IO exception
+     */
+    public void spill(final GroupByHashTable hashTable) throws IOException {
+        for (int slot = 0; slot < hashTable.getSize(); slot++) {
+            int partition = getPartition(hashTable.getHash(slot), 0);
+            if (null == partitions[partition]) {
+                partitions[partition] = createPartition(0);
+            }
+            partitions[partition].write(hashTable.getGroupValues(slot), hashTable.getRow(slot), hashTable.getStates(slot));
+        }
+    }
+    
+    private int getPartition(final int hash, final int level) {
+        // Hash table buckets are addressed by low bits of hash, so partitions use high bits of a hash re-mixed with level as seed.
+        int result = (hash ^ (level * 0x9E3779B9)) * 0x85EBCA6B;
+        return (result ^ (result >>> 15)) >>> 28;
+    }
+    
+    private SpillPartition createPartition(final int level) throws IOException {
+        SpillPartition result = new SpillPartition(Files.createTempFile(directory, "partition-", ".tmp"), level);
+        openedPartitions.add(result);
+        return result;
+    }
+    
+    /**
+     * Get spilled partitions.
+     *
+     * @return spilled partitions
+     */
+    public Collection<SpillPartition> getPartitions() {
+        return Arrays.stream(partitions).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+    
+    /**
+     * Re-merge spilled partial states of partition into hash table, partition file is deleted after loaded.
+     * 
+     * <p>Once the hash table reaches capacity, partial states of groups which are not in hash table are re-partitioned into partitions of next level.
+     * Groups in hash table are completely merged, because all partial states of the other groups are moved to the new partitions.</p>
+     *
+     * @param partition partition
+     * @param hashTable hash table to be merged into
+     * @param capacity capacity of hash table
+     * @return re-partitioned partitions
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public Collection<SpillPartition> mergePartition(final SpillPartition partition, final GroupByHashTable hashTable, final int capacity) throws IOException, ClassNotFoundException {
+        SpillPartition[] result = new SpillPartition[PARTITION_COUNT];
+        int level = partition.getLevel() + 1;
+        try (ObjectInputStream input = partition.openInput()) {
+            for (long i = 0; i < partition.getSize(); i++) {
+                Object[] groupValues = (Object[]) input.readObject();
+                Object[] row = (Object[]) input.readObject();
+                Object[] states = (Object[]) input.readObject();
+                int hash = GroupByHashTable.hash(groupValues);
+                int slot = hashTable.find(groupValues, hash);
+                if (slot >= 0 || hashTable.getSize() < capacity) {
+                    hashTable.mergeStates(slot < 0 ? hashTable.insert(groupValues, hash, row) : slot, states);
+                    continue;
+                }
+                int subPartition = getPartition(hash, level);
+                if (null == result[subPartition]) {
+                    result[subPartition] = createPartition(level);
+                }
+                result[subPartition].write(groupValues, row, states);
+            }
+        }
+        partition.close();
+        openedPartitions.remove(partition);
+        return Arrays.stream(result).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+    
+    /**
+     * Write sorted rows as a run.
+     *
+     * @param sortedRows sorted rows
+     * @param columnCount column count
+     * @throws IOException IO exception
+     */
+    public void writeRun(final List<MemoryQueryResultRow> sortedRows, final int columnCount) throws IOException {
+        if (sortedRows.isEmpty()) {
+            return;
+        }
+        Path runFile = Files.createTempFile(directory, "run-", ".tmp");
+        runFiles.add(runFile);
+        try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile), BUFFER_SIZE))) {
+            output.writeLong(sortedRows.size());
+            for (MemoryQueryResultRow each : sortedRows) {
+                Object[] row = new Object[columnCount];
+                for (int i = 0; i < columnCount; i++) {
+                    row[i] = each.getCell(i + 1);
+                }
+                output.writeObject(row);
+                output.reset();
+            }
+        }
+    }
+    
+    /**
+     * Open cursors of all sorted runs.
+     *
+     * @return cursors of sorted runs
+     * @throws IOException IO exception
+     */
+    public Collection<SpillRunCursor> openRuns() throws IOException {
+        for (Path each : runFiles) {
+            ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(each), BUFFER_SIZE));
+            try {
+                runCursors.add(new SpillRunCursor(each, input));
+            } catch (final IOException ex) {
+                input.close();
+                throw ex;
+            }
+        }
+        return new LinkedList<>(runCursors);
+    }
+    
+    @Override
+    public void close() throws IOException {
+        IOException exception = null;
+        Collection<AutoCloseable> closeables = new LinkedList<>(runCursors);
+        closeables.addAll(openedPartitions);
+        for (AutoCloseable each : closeables) {
+            try {
+                each.close();
+            } catch (final Exception ex) {
+                exception = null == exception ? new IOException(ex) : exception;
+            }
+        }
+        runCursors.clear();
+        openedPartitions.clear();
+        for (Path each : runFiles) {
+            Files.deleteIfExists(each);
+        }
+        runFiles.clear();
+        Files.deleteIfExists(directory);
+        if (null != exception) {
+            throw exception;
+        }
+    }
+}
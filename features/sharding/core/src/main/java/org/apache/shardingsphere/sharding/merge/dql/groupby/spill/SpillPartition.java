@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Spilled partition of group by partial states.
+ */
+public final class SpillPartition implements AutoCloseable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final Path file;
+    
+    @Getter
+    private final int level;
+    
+    private ObjectOutputStream output;
+    
+    @Getter
+    private long size;
+    
+    public SpillPartition(final Path file, final int level) throws IOException {
+        this.file = file;
+        this.level = level;
+        output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Write partial state of group.
+     *
+     * @param groupValues group values
+     * @param row row
+     * @param states aggregation states
+     * @throws IOException IO exception
+     */
+    public void write(final Object[] groupValues, final Object[] row, final Object[] states) throws IOException {
+        output.writeObject(groupValues);
+        output.writeObject(row);
+        output.writeObject(states);
+        output.reset();
+        size++;
+    }
+    
+    /**
+     * Finish writing and open input of partition.
+     *
+     * @return input of partition
+     * @throws IOException IO exception
+     */
+    public ObjectInputStream openInput() throws IOException {
+        closeOutput();
+        return new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE));
+    }
+    
+    private void closeOutput() throws IOException {
+        if (null != output) {
+            output.close();
+            output = null;
+        }
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            closeOutput();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
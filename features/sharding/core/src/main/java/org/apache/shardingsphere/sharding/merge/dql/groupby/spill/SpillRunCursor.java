@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Cursor of spilled sorted run.
+ */
+public final class SpillRunCursor implements AutoCloseable {
+    
+    private final Path file;
+    
+    private final ObjectInputStream input;
+    
+    private long remaining;
+    
+    @Getter
+    private MemoryQueryResultRow currentRow;
+    
+    public SpillRunCursor(final Path file, final ObjectInputStream input) throws IOException {
+        this.file = file;
+        this.input = input;
+        remaining = input.readLong();
+    }
+    
+    /**
+     * Iterate next row.
+     *
+     * @return has next row or not
+     * @throws IOException IO exception
+     * @throws ClassNotFoundException class not found exception
+     */
+    public boolean next() throws IOException, ClassNotFoundException {
+        if (0 == remaining) {
+            close();
+            return false;
+        }
+        remaining--;
+        currentRow = new MemoryQueryResultRow((Object[]) input.readObject());
+        return true;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        input.close();
+        Files.deleteIfExists(file);
+    }
+}
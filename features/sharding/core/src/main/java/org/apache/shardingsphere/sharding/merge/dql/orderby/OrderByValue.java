@@ -25,22 +25,33 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
 
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Order by value.
+ * 
+ * <p>Order values of current row are cached once per row. Case insensitive strings are upper cased once, and integral or timestamp values are compared by primitive sort keys.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
+    private static final byte GENERIC_SORT_KEY = 0;
+    
+    private static final byte INTEGRAL_SORT_KEY = 1;
+    
+    private static final byte TIMESTAMP_SORT_KEY = 2;
+    
     @Getter
     private final QueryResult queryResult;
     
@@ -50,7 +61,19 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderByIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
+    
+    private final byte[] sortKeyTypes;
+    
+    private final long[] sortKeys;
+    
+    private final int[] sortKeyNanos;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -58,6 +81,21 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        int size = orderByItems.size();
+        orderByIndexes = new int[size];
+        orderDirections = new OrderDirection[size];
+        nullsOrderTypes = new NullsOrderType[size];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderByIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType());
+            i++;
+        }
+        orderValues = new Comparable<?>[size];
+        sortKeyTypes = new byte[size];
+        sortKeys = new long[size];
+        sortKeyNanos = new int[size];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,31 +137,64 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderByIndexes.length; i++) {
+            Object value = queryResult.getValue(orderByIndexes[i], Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = !orderValuesCaseSensitive.get(i) && value instanceof String ? ((String) value).toUpperCase() : (Comparable<?>) value;
+            loadSortKey(i, value);
+        }
+    }
+    
+    private void loadSortKey(final int index, final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            sortKeyTypes[index] = INTEGRAL_SORT_KEY;
+            sortKeys[index] = ((Number) value).longValue();
+            sortKeyNanos[index] = 0;
+        } else if (value instanceof Timestamp) {
+            sortKeyTypes[index] = TIMESTAMP_SORT_KEY;
+            sortKeys[index] = ((Timestamp) value).getTime();
+            sortKeyNanos[index] = ((Timestamp) value).getNanos();
+        } else {
+            sortKeyTypes[index] = GENERIC_SORT_KEY;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType().getType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareTo(orderByValue, i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private int compareTo(final OrderByValue orderByValue, final int index) {
+        Comparable thisValue = orderValues[index];
+        Comparable otherValue = orderByValue.orderValues[index];
+        if (null == thisValue || null == otherValue) {
+            return CompareUtils.compareTo(thisValue, otherValue, orderDirections[index], nullsOrderTypes[index], true);
+        }
+        int result;
+        if (GENERIC_SORT_KEY != sortKeyTypes[index] && sortKeyTypes[index] == orderByValue.sortKeyTypes[index]) {
+            result = Long.compare(sortKeys[index], orderByValue.sortKeys[index]);
+            if (0 == result) {
+                result = Integer.compare(sortKeyNanos[index], orderByValue.sortKeyNanos[index]);
+            }
+        } else {
+            result = thisValue.compareTo(otherValue);
+        }
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
 }
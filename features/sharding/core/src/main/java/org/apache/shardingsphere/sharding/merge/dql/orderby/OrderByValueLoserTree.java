@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Loser tree of order by values for k-way merge.
+ * 
+ * <p>Internal nodes keep the loser of each match, so replaying the path of the advanced winner costs log(k) comparisons,
+ * instead of the poll and offer of priority queue. Like priority queue, the advanced winner keeps winning equal order by values.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private final List<OrderByValue> orderByValues;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] tree;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final Collection<OrderByValue> orderByValues) {
+        this.orderByValues = new ArrayList<>(orderByValues);
+        int size = this.orderByValues.size();
+        exhausted = new boolean[size];
+        remaining = size;
+        tree = new int[Math.max(size, 1)];
+        if (size > 0) {
+            tree[0] = build(1);
+        }
+    }
+    
+    private int build(final int node) {
+        int size = orderByValues.size();
+        if (node >= size) {
+            return node - size;
+        }
+        int left = build(node * 2);
+        int right = build(node * 2 + 1);
+        if (beats(right, left)) {
+            tree[node] = left;
+            return right;
+        }
+        tree[node] = right;
+        return left;
+    }
+    
+    private boolean beats(final int index, final int otherIndex) {
+        if (exhausted[index]) {
+            return false;
+        }
+        if (exhausted[otherIndex]) {
+            return true;
+        }
+        return orderByValues.get(index).compareTo(orderByValues.get(otherIndex)) < 0;
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return is empty or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get current winner.
+     *
+     * @return order by value of current winner, null if empty
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : orderByValues.get(tree[0]);
+    }
+    
+    /**
+     * Advance current winner to its next row and replay matches on its path.
+     *
+     * @return has next order by value or not
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        int winner = tree[0];
+        if (!orderByValues.get(winner).next()) {
+            exhausted[winner] = true;
+            remaining--;
+        }
+        for (int node = (winner + orderByValues.size()) / 2; node > 0; node /= 2) {
+            if (beats(tree[node], winner)) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+        return !isEmpty();
+    }
+}
@@ -33,4 +33,6 @@ public final class YamlShardingCacheOptionsConfiguration implements YamlConfigur
     private int initialCapacity;
     
     private int maximumSize;
+    
+    private long maximumWeight;
 }
@@ -40,6 +40,7 @@ import org.mockito.internal.configuration.plugins.Plugins;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Properties;
@@ -48,6 +49,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -192,14 +194,62 @@ class SnowflakeKeyGenerateAlgorithmTest {
         assertThat(actual, is(expected));
     }
     
+    @Test
+    void assertGenerateKeysWithSingleThread() {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(5));
+        SnowflakeKeyGenerateAlgorithm algorithm = (SnowflakeKeyGenerateAlgorithm) TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        algorithm.setInstanceContext(INSTANCE);
+        assertThat(new ArrayList<>(algorithm.generateKeys(5)), is(Arrays.asList(0L, 1L, 2L, 3L, 4L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(3)), is(Arrays.asList(5L, 6L, 7L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMilliSecond() {
+        TimeService timeService = new FixedTimeService(2);
+        SnowflakeKeyGenerateAlgorithm.setTimeService(timeService);
+        SnowflakeKeyGenerateAlgorithm algorithm = (SnowflakeKeyGenerateAlgorithm) TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        algorithm.setInstanceContext(INSTANCE);
+        setLastMillis(algorithm, timeService.getCurrentMillis());
+        setSequence(algorithm, (1 << DEFAULT_SEQUENCE_BITS) - 2L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(3)), is(Arrays.asList(4095L, 4194304L, 4194305L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        SnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE");
+        if (algorithm instanceof InstanceContextAware) {
+            ((InstanceContextAware) algorithm).setInstanceContext(INSTANCE);
+        }
+        int taskNumber = threadNumber * 4;
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(DEFAULT_KEY_AMOUNT * 100)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * DEFAULT_KEY_AMOUNT * 100, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * DEFAULT_KEY_AMOUNT * 100));
+    }
+    
     @SneakyThrows(ReflectiveOperationException.class)
     private void setLastMillis(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillis"), algorithm, new AtomicLong(value.longValue()));
+        AtomicLong lastMillisAndSequence = getLastMillisAndSequence(algorithm);
+        lastMillisAndSequence.set(value.longValue() << DEFAULT_SEQUENCE_BITS | lastMillisAndSequence.get() & ((1 << DEFAULT_SEQUENCE_BITS) - 1L));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
     private void setSequence(final KeyGenerateAlgorithm algorithm, final Number value) {
-        Plugins.getMemberAccessor().set(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequence"), algorithm, new AtomicLong(value.longValue()));
+        AtomicLong lastMillisAndSequence = getLastMillisAndSequence(algorithm);
+        lastMillisAndSequence.set(lastMillisAndSequence.get() >>> DEFAULT_SEQUENCE_BITS << DEFAULT_SEQUENCE_BITS | value.longValue());
+    }
+    
+    private AtomicLong getLastMillisAndSequence(final KeyGenerateAlgorithm algorithm) throws ReflectiveOperationException {
+        return (AtomicLong) Plugins.getMemberAccessor().get(SnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastMillisAndSequence"), algorithm);
     }
     
     @Test
@@ -47,6 +47,7 @@ import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.apache.shardingsphere.timeservice.api.config.TimestampServiceRuleConfiguration;
 import org.apache.shardingsphere.timeservice.core.rule.TimestampServiceRule;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -64,6 +65,7 @@ import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ShardingRouteCacheableCheckerTest {
@@ -83,6 +85,18 @@ class ShardingRouteCacheableCheckerTest {
         assertThat(actual.getShardingConditionParameterMarkerIndexes(), is(expectedShardingConditionParameterMarkerIndexes));
     }
     
+    @Test
+    void assertCheckUnorderedParameterMarkerIndexGroups() {
+        ShardingRule shardingRule = createShardingRule();
+        ShardingSphereDatabase database = createDatabase(shardingRule, createTimeServiceRule());
+        ShardingRouteCacheableChecker checker = new ShardingRouteCacheableChecker(shardingRule.getShardingCache());
+        String inListSQL = "select * from t_warehouse where id in (?, ?, ?)";
+        assertThat(checker.check(database, createQueryContext(database, inListSQL, Arrays.asList(3, 1, 2))).getUnorderedParameterMarkerIndexGroups(),
+                is(Collections.singletonList(Arrays.asList(0, 1, 2))));
+        String rangeSQL = "select * from t_warehouse where id between ? and ?";
+        assertTrue(checker.check(database, createQueryContext(database, rangeSQL, Arrays.asList(1, 10))).getUnorderedParameterMarkerIndexGroups().isEmpty());
+    }
+    
     private ShardingRule createShardingRule() {
         ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
         ruleConfig.getBindingTableGroups().add(new ShardingTableReferenceRuleConfiguration("foo", "t_order,t_order_item"));
@@ -149,6 +163,7 @@ class ShardingRouteCacheableCheckerTest {
                     Arguments.of("select * from t_warehouse where id = ?", Collections.singletonList(1), true, Collections.singletonList(0)),
                     Arguments.of("select * from t_warehouse where id in (?, ?, ?)", Arrays.asList(1, 2, 3), true, Arrays.asList(0, 1, 2)),
                     Arguments.of("select * from t_warehouse where id between ? and ?", Arrays.asList(1, 10), true, Arrays.asList(0, 1)),
+                    Arguments.of("select * from t_warehouse where id > ?", Collections.singletonList(1), true, Collections.singletonList(0)),
                     Arguments.of("select * from t_warehouse where id between ? and ? limit ? offset ?", Arrays.asList(1, 10, 100, 50), true, Arrays.asList(0, 1)),
                     Arguments.of("update t_warehouse set warehouse_name = ? where id = ?", Arrays.asList("foo", 1), true, Collections.singletonList(1)),
                     Arguments.of("delete from t_warehouse where id = ?", Collections.singletonList(1), true, Collections.singletonList(0)));
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheConfiguration;
+import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.apache.shardingsphere.sharding.cache.ShardingCache;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableCheckResult;
 import org.apache.shardingsphere.sharding.cache.checker.ShardingRouteCacheableChecker;
@@ -34,6 +35,7 @@ import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheKe
 import org.apache.shardingsphere.sharding.cache.route.cache.ShardingRouteCacheValue;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -133,9 +135,7 @@ class CachedShardingSQLRouterTest {
         when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
         when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
         when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
-        RouteContext expected = new RouteContext();
-        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_1"))));
-        expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_0")));
+        RouteContext expected = createMultiDataNodesRouteContext();
         OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
         ShardingSphereRuleMetaData globalRuleMetaData = mock(ShardingSphereRuleMetaData.class);
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, globalRuleMetaData, null, shardingCache, null, null);
@@ -143,4 +143,45 @@ class CachedShardingSQLRouterTest {
         assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
+    
+    @Test
+    void assertCreateRouteContextAndCacheWithQueryRoutedToMultiDataNodesWhenWeighedBySize() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t", Collections.emptyList());
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, new ShardingCacheOptionsConfiguration(false, 1, 0, 1024L)));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext expected = createMultiDataNodesRouteContext();
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(ShardingSphereRuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithUnorderedInListParameters() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t where status = ? and id in (?, ?, ?)", Arrays.asList("OK", 3, 1, 2));
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext))
+                .thenReturn(new ShardingRouteCacheableCheckResult(true, Arrays.asList(0, 1, 2, 3), Collections.singletonList(Arrays.asList(1, 2, 3))));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        when(shardingCache.getRouteCache().get(any(ShardingRouteCacheKey.class))).thenReturn(Optional.empty());
+        RouteContext expected = new RouteContext();
+        expected.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t"))));
+        expected.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t")));
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
+        new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(ShardingSphereRuleMetaData.class), null, shardingCache, null, null);
+        ArgumentCaptor<ShardingRouteCacheKey> cacheKeyCaptor = ArgumentCaptor.forClass(ShardingRouteCacheKey.class);
+        verify(shardingCache.getRouteCache()).put(cacheKeyCaptor.capture(), any(ShardingRouteCacheValue.class));
+        assertThat(cacheKeyCaptor.getValue().getShardingConditionParameters(), is(Arrays.asList("OK", Arrays.asList(1, 2, 3))));
+    }
+    
+    private RouteContext createMultiDataNodesRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_1"))));
+        result.getOriginalDataNodes().add(Collections.singletonList(new DataNode("ds_0", "t_0")));
+        return result;
+    }
 }
@@ -17,12 +17,18 @@
 
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
+import org.apache.shardingsphere.infra.datanode.DataNode;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -35,5 +41,24 @@ class ShardingRouteCacheTest {
         assertFalse(cache.get(key).isPresent());
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
+        assertThat(cache.getHitRatio(), is(0.5D));
+    }
+    
+    @Test
+    void assertPutAndGetWithMaximumWeight() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 0, 1024L * 1024L));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?)", Arrays.asList(1, 2));
+        ShardingRouteCacheValue value = new ShardingRouteCacheValue(createRouteContext());
+        cache.put(key, value);
+        assertTrue(cache.get(key).isPresent());
+        assertTrue(value.estimateSize() > new ShardingRouteCacheValue(new RouteContext()).estimateSize());
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_1"))));
+        result.getOriginalDataNodes().add(Arrays.asList(new DataNode("ds_0", "t_0"), new DataNode("ds_1", "t_1")));
+        return result;
     }
 }
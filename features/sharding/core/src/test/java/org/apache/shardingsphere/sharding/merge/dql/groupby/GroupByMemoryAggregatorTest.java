@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByMemoryAggregatorTest {
+    
+    @Test
+    void assertCombine() throws SQLException {
+        SelectStatementContext selectStatementContext = createSelectStatementContext();
+        GroupByMemoryAggregator actual = new GroupByMemoryAggregator(selectStatementContext);
+        assertTrue(actual.isEmpty());
+        actual.aggregate(createQueryResult(1, 10, 2, 20));
+        GroupByMemoryAggregator partial = new GroupByMemoryAggregator(selectStatementContext);
+        partial.aggregate(createQueryResult(1, 20, 3, 10));
+        actual.combine(partial);
+        List<MemoryQueryResultRow> rows = actual.getRows();
+        assertThat(rows.size(), is(1));
+        assertThat(rows.get(0).getCell(1), is(1));
+        assertThat(rows.get(0).getCell(2), is(new BigDecimal("6.0000")));
+        assertThat(rows.get(0).getCell(3), is(new BigDecimal(5)));
+        assertThat(rows.get(0).getCell(4), is(new BigDecimal(30)));
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        OrderByItem groupByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        groupByItem.setIndex(1);
+        when(result.getGroupByContext().getItems()).thenReturn(Collections.singletonList(groupByItem));
+        AggregationProjection avgProjection = createAggregationProjection(AggregationType.AVG, 2);
+        AggregationProjection derivedCountProjection = createAggregationProjection(AggregationType.COUNT, 3);
+        AggregationProjection derivedSumProjection = createAggregationProjection(AggregationType.SUM, 4);
+        avgProjection.getDerivedAggregationProjections().addAll(Arrays.asList(derivedCountProjection, derivedSumProjection));
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(Arrays.asList(avgProjection, derivedCountProjection, derivedSumProjection));
+        return result;
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, "(num)", "a" + index, null);
+        result.setIndex(index);
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Object... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.next()).thenReturn(true, false);
+        when(result.getMetaData().getColumnCount()).thenReturn(values.length);
+        for (int i = 0; i < values.length; i++) {
+            when(result.getValue(i + 1, Object.class)).thenReturn(values[i]);
+        }
+        return result;
+    }
+}
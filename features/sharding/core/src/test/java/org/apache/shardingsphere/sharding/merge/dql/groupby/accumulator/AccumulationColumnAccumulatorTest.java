@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccumulationColumnAccumulatorTest {
+    
+    @Test
+    void assertAccumulate() throws SQLException {
+        AccumulationColumnAccumulator accumulator = new AccumulationColumnAccumulator(1);
+        accumulator.ensureCapacity(2);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(null, 10, 20L, 5);
+        accumulator.accumulate(0, queryResult);
+        accumulator.accumulate(0, queryResult);
+        accumulator.accumulate(0, queryResult);
+        accumulator.accumulate(0, queryResult);
+        assertThat(accumulator.getResult(0), is(new BigDecimal(35)));
+        assertNull(accumulator.getResult(1));
+        assertNull(accumulator.getState(1));
+    }
+    
+    @Test
+    void assertAccumulateWithMemoryQueryResult() throws SQLException {
+        AccumulationColumnAccumulator accumulator = new AccumulationColumnAccumulator(1);
+        accumulator.ensureCapacity(1);
+        QueryResult queryResult = new RawMemoryQueryResult(mock(QueryResultMetaData.class), Arrays.asList(new MemoryQueryResultDataRow(Collections.singletonList(10)),
+                new MemoryQueryResultDataRow(Collections.singletonList(null)), new MemoryQueryResultDataRow(Collections.singletonList(new BigDecimal("1.5")))));
+        while (queryResult.next()) {
+            accumulator.accumulate(0, queryResult);
+        }
+        assertThat(accumulator.getResult(0), is(new BigDecimal("11.5")));
+    }
+    
+    @Test
+    void assertAccumulateWithDecimalValue() {
+        AccumulationColumnAccumulator accumulator = new AccumulationColumnAccumulator(1);
+        accumulator.ensureCapacity(1);
+        accumulator.mergeState(0, 1);
+        accumulator.mergeState(0, 1.5D);
+        accumulator.mergeState(0, 2L);
+        assertThat(accumulator.getResult(0), is(new BigDecimal("4.5")));
+    }
+    
+    @Test
+    void assertAccumulateWithLongOverflow() {
+        AccumulationColumnAccumulator accumulator = new AccumulationColumnAccumulator(1);
+        accumulator.ensureCapacity(1);
+        accumulator.mergeState(0, Long.MAX_VALUE);
+        accumulator.mergeState(0, 1L);
+        assertThat(accumulator.getResult(0), is(BigDecimal.valueOf(Long.MAX_VALUE).add(BigDecimal.ONE)));
+    }
+    
+    @Test
+    void assertMergeState() {
+        AccumulationColumnAccumulator accumulator = new AccumulationColumnAccumulator(1);
+        accumulator.ensureCapacity(1);
+        accumulator.mergeState(0, 10);
+        AccumulationColumnAccumulator another = new AccumulationColumnAccumulator(1);
+        another.ensureCapacity(1);
+        another.mergeState(0, accumulator.getState(0));
+        another.mergeState(0, 20);
+        assertThat(another.getResult(0), is(new BigDecimal(30)));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AverageColumnAccumulatorTest {
+    
+    @Test
+    void assertAccumulate() throws SQLException {
+        AverageColumnAccumulator accumulator = new AverageColumnAccumulator(1, 2);
+        accumulator.ensureCapacity(1);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(1, 10, 10, 5);
+        when(queryResult.getValue(2, Object.class)).thenReturn(null, 50, 20, 40);
+        for (int i = 0; i < 4; i++) {
+            accumulator.accumulate(0, queryResult);
+        }
+        assertThat(accumulator.getResult(0), is(new BigDecimal("4.4000")));
+    }
+    
+    @Test
+    void assertDivideZero() {
+        AverageColumnAccumulator accumulator = new AverageColumnAccumulator(1, 2);
+        accumulator.ensureCapacity(1);
+        accumulator.mergeState(0, new Object[]{0, 50});
+        accumulator.mergeState(0, new Object[]{0, 20});
+        assertThat(accumulator.getResult(0), is(new BigDecimal(0)));
+    }
+    
+    @Test
+    void assertMergeState() {
+        AverageColumnAccumulator accumulator = new AverageColumnAccumulator(1, 2);
+        accumulator.ensureCapacity(1);
+        accumulator.mergeState(0, new Object[]{10, 50});
+        AverageColumnAccumulator another = new AverageColumnAccumulator(1, 2);
+        another.ensureCapacity(1);
+        another.mergeState(0, accumulator.getState(0));
+        another.mergeState(0, new Object[]{10, 20});
+        assertThat(another.getResult(0), is(new BigDecimal("3.5000")));
+    }
+}
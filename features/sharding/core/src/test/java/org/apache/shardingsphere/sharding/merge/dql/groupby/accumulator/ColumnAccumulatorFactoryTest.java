@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ColumnAccumulatorFactoryTest {
+    
+    @Test
+    void assertIsSupported() {
+        assertTrue(ColumnAccumulatorFactory.isSupported(Arrays.asList(createAggregationProjection(AggregationType.COUNT), createAggregationProjection(AggregationType.MAX))));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithDistinct() {
+        AggregationProjection projection = mock(AggregationDistinctProjection.class);
+        when(projection.getType()).thenReturn(AggregationType.COUNT);
+        assertFalse(ColumnAccumulatorFactory.isSupported(Collections.singleton(projection)));
+    }
+    
+    @Test
+    void assertIsNotSupportedWithBitXor() {
+        assertFalse(ColumnAccumulatorFactory.isSupported(Collections.singleton(createAggregationProjection(AggregationType.BIT_XOR))));
+    }
+    
+    @Test
+    void assertCreate() {
+        assertThat(ColumnAccumulatorFactory.create(createAggregationProjection(AggregationType.MAX)), instanceOf(ComparableColumnAccumulator.class));
+        assertThat(ColumnAccumulatorFactory.create(createAggregationProjection(AggregationType.MIN)), instanceOf(ComparableColumnAccumulator.class));
+        assertThat(ColumnAccumulatorFactory.create(createAggregationProjection(AggregationType.SUM)), instanceOf(AccumulationColumnAccumulator.class));
+        assertThat(ColumnAccumulatorFactory.create(createAggregationProjection(AggregationType.COUNT)), instanceOf(AccumulationColumnAccumulator.class));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type) {
+        return new AggregationProjection(type, "(1)", null, null);
+    }
+}
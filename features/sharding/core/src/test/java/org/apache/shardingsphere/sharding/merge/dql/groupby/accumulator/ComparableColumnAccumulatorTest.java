@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.accumulator;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ComparableColumnAccumulatorTest {
+    
+    @Test
+    void assertAccumulateForMin() throws SQLException {
+        assertThat(accumulate(true).getResult(0), is(1));
+    }
+    
+    @Test
+    void assertAccumulateForMax() throws SQLException {
+        assertThat(accumulate(false).getResult(0), is(20));
+    }
+    
+    private ComparableColumnAccumulator accumulate(final boolean asc) throws SQLException {
+        ComparableColumnAccumulator result = new ComparableColumnAccumulator(1, asc);
+        result.ensureCapacity(1);
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(null, 10, 1, 20);
+        for (int i = 0; i < 4; i++) {
+            result.accumulate(0, queryResult);
+        }
+        return result;
+    }
+}
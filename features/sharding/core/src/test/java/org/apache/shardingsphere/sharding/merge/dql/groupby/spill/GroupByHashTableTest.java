@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.spill;
+
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class GroupByHashTableTest {
+    
+    @Test
+    void assertFindAndInsert() {
+        GroupByHashTable hashTable = new GroupByHashTable(Collections.singletonList(createCountProjection()));
+        for (int i = 0; i < 5000; i++) {
+            Object[] groupValues = {i % 2000, "foo"};
+            int hash = GroupByHashTable.hash(groupValues);
+            int slot = hashTable.find(groupValues, hash);
+            hashTable.mergeStates(slot < 0 ? hashTable.insert(groupValues, hash, new Object[]{null, i % 2000}) : slot, new Object[]{1});
+        }
+        assertThat(hashTable.getSize(), is(2000));
+        Object[] groupValues = {1999, "foo"};
+        assertThat(hashTable.find(groupValues, GroupByHashTable.hash(groupValues)), is(1999));
+        Object[] absentGroupValues = {2000, "foo"};
+        assertThat(hashTable.find(absentGroupValues, GroupByHashTable.hash(absentGroupValues)), is(-1));
+        List<Object[]> actual = hashTable.buildRows();
+        assertThat(actual.size(), is(2000));
+        assertThat(actual.get(0)[0], is(new BigDecimal(3)));
+        assertThat(actual.get(1999)[0], is(new BigDecimal(2)));
+    }
+    
+    private AggregationProjection createCountProjection() {
+        AggregationProjection result = new AggregationProjection(AggregationType.COUNT, "(*)", null, null);
+        result.setIndex(1);
+        return result;
+    }
+}
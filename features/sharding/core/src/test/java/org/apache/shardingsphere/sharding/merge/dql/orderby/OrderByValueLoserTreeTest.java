@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertEmpty() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertThat(actual.peek(), nullValue());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertMergeAsc() throws SQLException {
+        Collection<OrderByValue> orderByValues = Arrays.asList(
+                createOrderByValue(OrderDirection.ASC, 1L, 4L, 7L), createOrderByValue(OrderDirection.ASC, 2L, 5L), createOrderByValue(OrderDirection.ASC),
+                createOrderByValue(OrderDirection.ASC, 3L, 6L, 8L, 9L), createOrderByValue(OrderDirection.ASC, 0L));
+        assertThat(merge(orderByValues), is(Arrays.<Object>asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L)));
+    }
+    
+    @Test
+    void assertMergeDescWithMixedIntegralTypes() throws SQLException {
+        Collection<OrderByValue> orderByValues = Arrays.asList(
+                createOrderByValue(OrderDirection.DESC, 9, 5, 1), createOrderByValue(OrderDirection.DESC, 8L, 4L), createOrderByValue(OrderDirection.DESC, (short) 7, (short) 2));
+        assertThat(merge(orderByValues), is(Arrays.<Object>asList(9, 8L, (short) 7, 5, 4L, (short) 2, 1)));
+    }
+    
+    @Test
+    void assertMergeTimestampWithNanos() throws SQLException {
+        Timestamp first = createTimestamp(100);
+        Timestamp second = createTimestamp(200);
+        Timestamp third = new Timestamp(1000L);
+        Collection<OrderByValue> orderByValues = Arrays.asList(createOrderByValue(OrderDirection.ASC, second), createOrderByValue(OrderDirection.ASC, first, third));
+        assertThat(merge(orderByValues), is(Arrays.<Object>asList(first, second, third)));
+    }
+    
+    @Test
+    void assertMergeWithSingleOrderByValue() throws SQLException {
+        assertThat(merge(Collections.singleton(createOrderByValue(OrderDirection.ASC, "a", "b"))), is(Arrays.<Object>asList("a", "b")));
+    }
+    
+    private List<Object> merge(final Collection<OrderByValue> orderByValues) throws SQLException {
+        List<OrderByValue> positioned = new ArrayList<>(orderByValues.size());
+        for (OrderByValue each : orderByValues) {
+            if (each.next()) {
+                positioned.add(each);
+            }
+        }
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(positioned);
+        List<Object> result = new ArrayList<>();
+        while (!loserTree.isEmpty()) {
+            result.add(loserTree.peek().getQueryResult().getValue(1, Object.class));
+            loserTree.next();
+        }
+        return result;
+    }
+    
+    private Timestamp createTimestamp(final int nanos) {
+        Timestamp result = new Timestamp(0L);
+        result.setNanos(nanos);
+        return result;
+    }
+    
+    private OrderByValue createOrderByValue(final OrderDirection orderDirection, final Object... values) throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        AtomicInteger cursor = new AtomicInteger(-1);
+        when(queryResult.next()).thenAnswer(invocation -> cursor.incrementAndGet() < values.length);
+        when(queryResult.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor.get()]);
+        OrderByItem orderByItem = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, orderDirection, NullsOrderType.FIRST));
+        orderByItem.setIndex(1);
+        return new OrderByValue(queryResult, Collections.singletonList(orderByItem), mock(SelectStatementContext.class, RETURNS_DEEP_STUBS), mock(ShardingSphereSchema.class));
+    }
+}
@@ -401,6 +401,11 @@ class ShardingRuleTest {
         assertThat(createMaximumShardingRule().generateKey("logic_table"), instanceOf(String.class));
     }
     
+    @Test
+    void assertGenerateKeysWithDefaultKeyGenerator() {
+        assertThat(createMinimumShardingRule().generateKeys("logic_table", 3).size(), is(3));
+    }
+    
     @Test
     void assertGetDataNodeByLogicTable() {
         assertThat(createMaximumShardingRule().getDataNode("logic_table"), is(new DataNode("ds_0.table_0")));
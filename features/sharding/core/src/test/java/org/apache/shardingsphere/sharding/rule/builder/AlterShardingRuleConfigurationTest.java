@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.builder;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.database.DatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.single.api.config.SingleRuleConfiguration;
+import org.apache.shardingsphere.single.rule.SingleRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+class AlterShardingRuleConfigurationTest {
+    
+    private static final String DATABASE_NAME = "foo_db";
+    
+    private HikariDataSource dataSource;
+    
+    private ContextManager contextManager;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:alter_sharding_rule_ds;DATABASE_TO_UPPER=false;MODE=MySQL");
+        dataSource.setUsername("root");
+        dataSource.setPassword("root");
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE t_order (order_id INT PRIMARY KEY, user_id INT)");
+            statement.execute("CREATE TABLE t_order_item (item_id INT PRIMARY KEY, order_id INT)");
+            statement.execute("CREATE TABLE t_user (user_id INT PRIMARY KEY)");
+        }
+        DatabaseType databaseType = new H2DatabaseType();
+        DatabaseConfiguration databaseConfig = new DataSourceProvidedDatabaseConfiguration(
+                Collections.singletonMap("ds_0", dataSource), Arrays.asList(createShardingRuleConfiguration("t_order"), new SingleRuleConfiguration(Collections.singleton("*.*"), null)));
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        InstanceContext instanceContext = mock(InstanceContext.class, RETURNS_DEEP_STUBS);
+        Map<String, ShardingSphereDatabase> databases = new LinkedHashMap<>(1, 1F);
+        databases.put(DATABASE_NAME, ShardingSphereDatabase.create(DATABASE_NAME, databaseType, Collections.singletonMap("ds_0", databaseType), databaseConfig, props, instanceContext));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(databases, mock(ShardingSphereResourceMetaData.class), new ShardingSphereRuleMetaData(Collections.emptyList()), props);
+        contextManager = new ContextManager(new MetaDataContexts(mock(MetaDataBasedPersistService.class, RETURNS_DEEP_STUBS), metaData), instanceContext);
+    }
+    
+    @AfterEach
+    void tearDown() {
+        contextManager.close();
+        dataSource.close();
+    }
+    
+    @Test
+    void assertAlterWithShardingTableAdded() {
+        assertTrue(getDatabase().getRuleMetaData().getSingleRule(SingleRule.class).getLogicTableMapper().contains("t_order_item"));
+        ShardingSphereSchema schema = getDatabase().getSchema(DATABASE_NAME);
+        contextManager.alterRuleConfiguration(DATABASE_NAME, createShardingRuleConfiguration("t_order", "t_order_item"));
+        SingleRule actualSingleRule = getDatabase().getRuleMetaData().getSingleRule(SingleRule.class);
+        assertFalse(actualSingleRule.getLogicTableMapper().contains("t_order"));
+        assertFalse(actualSingleRule.getLogicTableMapper().contains("t_order_item"));
+        assertTrue(actualSingleRule.getLogicTableMapper().contains("t_user"));
+        assertTrue(getDatabase().getRuleMetaData().getSingleRule(ShardingRule.class).isShardingTable("t_order_item"));
+        ShardingSphereSchema actualSchema = getDatabase().getSchema(DATABASE_NAME);
+        assertTrue(actualSchema.containsTable("t_order"));
+        assertTrue(actualSchema.containsTable("t_order_item"));
+        assertThat(actualSchema.getTable("t_user"), is(schema.getTable("t_user")));
+    }
+    
+    @Test
+    void assertAlterWithShardingTableDropped() {
+        assertFalse(getDatabase().getRuleMetaData().getSingleRule(SingleRule.class).getLogicTableMapper().contains("t_order"));
+        contextManager.alterRuleConfiguration(DATABASE_NAME, createShardingRuleConfiguration("t_order_item"));
+        SingleRule actualSingleRule = getDatabase().getRuleMetaData().getSingleRule(SingleRule.class);
+        assertTrue(actualSingleRule.getLogicTableMapper().contains("t_order"));
+        assertFalse(actualSingleRule.getLogicTableMapper().contains("t_order_item"));
+        assertTrue(actualSingleRule.getLogicTableMapper().contains("t_user"));
+        assertFalse(getDatabase().getRuleMetaData().getSingleRule(ShardingRule.class).isShardingTable("t_order"));
+        assertTrue(getDatabase().getSchema(DATABASE_NAME).containsTable("t_order"));
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration(final String... logicTableNames) {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        Arrays.stream(logicTableNames).forEach(each -> result.getTables().add(new ShardingTableRuleConfiguration(each, "ds_0." + each)));
+        return result;
+    }
+    
+    private ShardingSphereDatabase getDatabase() {
+        return contextManager.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME);
+    }
+}
@@ -78,11 +78,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether pass raw bytes of backend rows to MySQL text protocol client for queries routed to single MySQL data source without result decoration.
+     * Decoded values are still used if the character set of client differs from backend connection, and for temporal columns.
+     */
+    PROXY_BACKEND_RAW_ROW_PASSTHROUGH_ENABLED("proxy-backend-raw-row-passthrough-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether run commands of each connection on virtual thread for ShardingSphere-Proxy, which requires JDK 21 or later.
+     */
+    PROXY_FRONTEND_VIRTUAL_THREAD_ENABLED("proxy-frontend-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
@@ -118,6 +129,16 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_SSL_CIPHER("proxy-frontend-ssl-cipher", "", String.class, true),
     
+    /**
+     * Group by merge type for memory merged results, supports MEMORY, SPILLABLE and PARALLEL.
+     */
+    GROUP_BY_MERGE_TYPE("group-by-merge-type", GroupByMergeType.MEMORY.name(), GroupByMergeType.class, false),
+    
+    /**
+     * Max groups kept in memory before spilling to local temp files when group by merge type is SPILLABLE.
+     */
+    GROUP_BY_MERGE_SPILL_THRESHOLD("group-by-merge-spill-threshold", String.valueOf(1000000), int.class, false),
+    
     /**
      * Agent plugins enabled.
      */
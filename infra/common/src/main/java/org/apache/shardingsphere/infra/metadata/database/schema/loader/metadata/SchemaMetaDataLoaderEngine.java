@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata;
 
+import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -27,11 +28,14 @@ import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.Tab
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
@@ -40,6 +44,7 @@ import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @Slf4j
@@ -48,6 +53,8 @@ public final class SchemaMetaDataLoaderEngine {
     private static final ExecutorService EXECUTOR_SERVICE = new ThreadPoolExecutor(Runtime.getRuntime().availableProcessors() * 2, Runtime.getRuntime().availableProcessors() * 2,
             0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), new ThreadFactoryBuilder().setDaemon(true).setNameFormat("ShardingSphere-SchemaMetaDataLoaderEngine-%d").build());
     
+    private static final int TABLE_BATCH_SIZE = 1000;
+    
     /**
      * Load schema meta data.
      *
@@ -56,10 +63,26 @@ public final class SchemaMetaDataLoaderEngine {
      * @throws SQLException SQL exception
      */
     public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterial> materials) throws SQLException {
+        return load(materials, 1);
+    }
+    
+    /**
+     * Load schema meta data.
+     *
+     * @param materials schema meta data loader materials
+     * @param maxConnectionsSizePerDataSource max connections size per data source
+     * @return schema meta data map
+     * @throws SQLException SQL exception
+     */
+    public static Map<String, SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterial> materials, final int maxConnectionsSizePerDataSource) throws SQLException {
         Map<String, SchemaMetaData> result = new LinkedHashMap<>(materials.size(), 1F);
+        int totalTableCount = materials.stream().mapToInt(each -> each.getActualTableNames().size()).sum();
+        AtomicInteger loadedTableCount = new AtomicInteger();
         Collection<Future<Collection<SchemaMetaData>>> futures = new LinkedList<>();
-        for (SchemaMetaDataLoaderMaterial each : materials) {
-            futures.add(EXECUTOR_SERVICE.submit(() -> load(each)));
+        for (List<SchemaMetaDataLoaderMaterial> each : getBatchedMaterials(materials).values()) {
+            for (List<SchemaMetaDataLoaderMaterial> partitionedMaterials : Lists.partition(each, getPartitionSize(each.size(), maxConnectionsSizePerDataSource))) {
+                futures.add(EXECUTOR_SERVICE.submit(() -> load(partitionedMaterials, loadedTableCount, totalTableCount)));
+            }
         }
         try {
             for (Future<Collection<SchemaMetaData>> each : futures) {
@@ -76,6 +99,38 @@ public final class SchemaMetaDataLoaderEngine {
         return result;
     }
     
+    private static Map<DataSource, List<SchemaMetaDataLoaderMaterial>> getBatchedMaterials(final Collection<SchemaMetaDataLoaderMaterial> materials) {
+        Map<DataSource, List<SchemaMetaDataLoaderMaterial>> result = new LinkedHashMap<>(materials.size(), 1F);
+        for (SchemaMetaDataLoaderMaterial each : materials) {
+            List<SchemaMetaDataLoaderMaterial> batchedMaterials = result.computeIfAbsent(each.getDataSource(), key -> new ArrayList<>());
+            if (each.getActualTableNames().size() <= TABLE_BATCH_SIZE) {
+                batchedMaterials.add(each);
+                continue;
+            }
+            for (List<String> actualTableNames : Lists.partition(new ArrayList<>(each.getActualTableNames()), TABLE_BATCH_SIZE)) {
+                batchedMaterials.add(new SchemaMetaDataLoaderMaterial(actualTableNames, each.getDataSource(), each.getStorageType(), each.getDefaultSchemaName()));
+            }
+        }
+        return result;
+    }
+    
+    private static int getPartitionSize(final int batchedMaterialCount, final int maxConnectionsSizePerDataSource) {
+        int partitionCount = Math.max(1, Math.min(batchedMaterialCount, maxConnectionsSizePerDataSource));
+        return (batchedMaterialCount + partitionCount - 1) / partitionCount;
+    }
+    
+    private static Collection<SchemaMetaData> load(final Collection<SchemaMetaDataLoaderMaterial> materials, final AtomicInteger loadedTableCount, final int totalTableCount) throws SQLException {
+        Collection<SchemaMetaData> result = new LinkedList<>();
+        for (SchemaMetaDataLoaderMaterial each : materials) {
+            result.addAll(load(each));
+            int loaded = loadedTableCount.addAndGet(each.getActualTableNames().size());
+            if (totalTableCount > TABLE_BATCH_SIZE) {
+                log.info("Loaded schema meta data of {}/{} actual tables.", loaded, totalTableCount);
+            }
+        }
+        return result;
+    }
+    
     private static Collection<SchemaMetaData> load(final SchemaMetaDataLoaderMaterial material) throws SQLException {
         Optional<DialectSchemaMetaDataLoader> dialectSchemaMetaDataLoader = TypedSPILoader.findService(DialectSchemaMetaDataLoader.class, material.getStorageType().getType());
         if (dialectSchemaMetaDataLoader.isPresent()) {
@@ -37,6 +37,7 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -67,6 +68,40 @@ public final class DatabaseRulesBuilder {
         return result;
     }
     
+    /**
+     * Build database rules with altered rule configuration.
+     * 
+     * <p>Rules built before the altered rule can not depend on it and are reused, the altered rule and all rules built after it are rebuilt.</p>
+     *
+     * @param databaseName database name
+     * @param databaseConfig database configuration
+     * @param rules current rules
+     * @param alteredRuleConfig altered rule configuration
+     * @param instanceContext instance context
+     * @return built rules
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Collection<ShardingSphereRule> build(final String databaseName, final DatabaseConfiguration databaseConfig, final Collection<ShardingSphereRule> rules,
+                                                       final RuleConfiguration alteredRuleConfig, final InstanceContext instanceContext) {
+        Collection<ShardingSphereRule> result = new LinkedList<>();
+        boolean rebuild = false;
+        for (Entry<RuleConfiguration, DatabaseRuleBuilder> entry : getRuleBuilderMap(databaseConfig).entrySet()) {
+            rebuild = rebuild || entry.getKey() == alteredRuleConfig;
+            Optional<ShardingSphereRule> currentRule = rebuild ? Optional.empty() : rules.stream().filter(each -> each.getConfiguration() == entry.getKey()).findFirst();
+            if (currentRule.isPresent()) {
+                result.add(currentRule.get());
+                continue;
+            }
+            RuleConfigurationChecker configChecker = OrderedSPILoader.getServicesByClass(
+                    RuleConfigurationChecker.class, Collections.singleton(entry.getKey().getClass())).get(entry.getKey().getClass());
+            if (null != configChecker) {
+                configChecker.check(databaseName, entry.getKey(), databaseConfig.getDataSources(), result);
+            }
+            result.add(entry.getValue().build(entry.getKey(), databaseName, databaseConfig.getDataSources(), result, instanceContext));
+        }
+        return result;
+    }
+    
     /**
      * Build database rules.
      *
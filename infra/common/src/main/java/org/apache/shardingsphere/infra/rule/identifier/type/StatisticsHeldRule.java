@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.rule.identifier.type;
+
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+/**
+ * ShardingSphere rule which held statistics.
+ */
+public interface StatisticsHeldRule extends ShardingSphereRule {
+    
+    /**
+     * Refresh statistics.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param statistics ShardingSphere statistics
+     */
+    void refreshStatistics(ShardingSphereMetaData metaData, ShardingSphereStatistics statistics);
+    
+    /**
+     * Alter statistics.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param statistics ShardingSphere statistics
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @param tableName table name
+     */
+    void alterStatistics(ShardingSphereMetaData metaData, ShardingSphereStatistics statistics, String databaseName, String schemaName, String tableName);
+}
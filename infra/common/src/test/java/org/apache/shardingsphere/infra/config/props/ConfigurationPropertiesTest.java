@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.config.props;
 
+import org.apache.shardingsphere.infra.util.props.exception.TypedPropertiesServerException;
 import org.apache.shardingsphere.test.util.PropertiesBuilder;
 import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
 import org.junit.jupiter.api.Test;
@@ -26,6 +27,7 @@ import java.util.Properties;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurationPropertiesTest {
@@ -47,6 +49,8 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3308));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_TYPE), is(GroupByMergeType.SPILLABLE));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD), is(1000));
     }
     
     private Properties createProperties() {
@@ -64,7 +68,9 @@ class ConfigurationPropertiesTest {
                 new Property(ConfigurationPropertyKey.PROXY_FRONTEND_MAX_CONNECTIONS.getKey(), "20"),
                 new Property(ConfigurationPropertyKey.PROXY_DEFAULT_PORT.getKey(), "3308"),
                 new Property(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG.getKey(), "1024"),
-                new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"));
+                new Property(ConfigurationPropertyKey.CDC_SERVER_PORT.getKey(), "33071"),
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_TYPE.getKey(), "spillable"),
+                new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), "1000"));
     }
     
     @Test
@@ -84,5 +90,13 @@ class ConfigurationPropertiesTest {
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_DEFAULT_PORT), is(3307));
         assertThat(actual.getValue(ConfigurationPropertyKey.PROXY_NETTY_BACKLOG), is(1024));
         assertThat(actual.getValue(ConfigurationPropertyKey.CDC_SERVER_PORT), is(33071));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_TYPE), is(GroupByMergeType.MEMORY));
+        assertThat(actual.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD), is(1000000));
+    }
+    
+    @Test
+    void assertCreateWithInvalidGroupByMergeType() {
+        assertThrows(TypedPropertiesServerException.class,
+                () -> new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_TYPE.getKey(), "MEMROY"))));
     }
 }
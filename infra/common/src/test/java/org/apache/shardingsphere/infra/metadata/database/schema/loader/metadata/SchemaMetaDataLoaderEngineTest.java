@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.metadata.database.schema.loader.metadata;
+
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.SchemaMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.loader.model.TableMetaData;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SchemaMetaDataLoaderEngineTest {
+    
+    @Test
+    void assertLoadWithBatchedActualTables() throws SQLException {
+        DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "INFRA.FIXTURE");
+        DataSource dataSource = mock(DataSource.class);
+        List<String> fooActualTableNames = IntStream.range(0, 2500).mapToObj(each -> "foo_tbl_" + each).collect(Collectors.toList());
+        List<String> barActualTableNames = IntStream.range(0, 10).mapToObj(each -> "bar_tbl_" + each).collect(Collectors.toList());
+        Collection<SchemaMetaDataLoaderMaterial> materials = Arrays.asList(new SchemaMetaDataLoaderMaterial(fooActualTableNames, dataSource, databaseType, "foo_db"),
+                new SchemaMetaDataLoaderMaterial(barActualTableNames, mock(DataSource.class), databaseType, "foo_db"));
+        Map<String, SchemaMetaData> actual = SchemaMetaDataLoaderEngine.load(materials, 2);
+        assertThat(actual.size(), is(1));
+        List<String> actualTableNames = actual.get("foo_db").getTables().stream().map(TableMetaData::getName).collect(Collectors.toList());
+        assertThat(actualTableNames.size(), is(2510));
+        assertThat(actualTableNames.subList(0, 2500), is(fooActualTableNames));
+        assertThat(actualTableNames.subList(2500, 2510), is(barActualTableNames));
+    }
+}
@@ -31,6 +31,7 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class DatabaseRulesBuilderTest {
     
@@ -41,4 +42,15 @@ class DatabaseRulesBuilderTest {
         assertThat(actual.next(), instanceOf(FixtureDatabaseRule.class));
         assertFalse(actual.hasNext());
     }
+    
+    @Test
+    void assertBuildWithAlteredRuleConfiguration() {
+        FixtureRuleConfiguration ruleConfig = new FixtureRuleConfiguration();
+        ShardingSphereRule rule = mock(ShardingSphereRule.class);
+        when(rule.getConfiguration()).thenReturn(ruleConfig);
+        Iterator<ShardingSphereRule> actual = DatabaseRulesBuilder.build("foo_db",
+                new DataSourceProvidedDatabaseConfiguration(Collections.emptyMap(), Collections.singleton(ruleConfig)), Collections.singleton(rule), ruleConfig, mock(InstanceContext.class)).iterator();
+        assertThat(actual.next(), instanceOf(FixtureDatabaseRule.class));
+        assertFalse(actual.hasNext());
+    }
 }
@@ -25,13 +25,18 @@ import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceMan
 import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Executor engine.
@@ -107,11 +112,61 @@ public final class ExecutorEngine implements AutoCloseable {
      */
     public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext,
                                   final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial) throws SQLException {
+        return execute(executionGroupContext, firstCallback, callback, serial, 0L);
+    }
+    
+    /**
+     * Execute.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param timeoutMillis timeout in milliseconds to wait for execution groups in other threads, zero or negative means waiting without timeout
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public <I, O> List<O> execute(final ExecutionGroupContext<I> executionGroupContext,
+                                  final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback, final boolean serial, final long timeoutMillis) throws SQLException {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
         return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback);
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), firstCallback, callback, timeoutMillis);
+    }
+    
+    /**
+     * Execute asynchronously.
+     *
+     * <p>Each execution group is submitted to executor service, and the caller is not blocked.
+     * Cancelling a returned future skips its group if not started yet, or cancels the running group by {@link ExecutorCallback#cancel(Collection)}.
+     * The executor thread is never interrupted.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param callback executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result futures, one for each execution group in input order
+     */
+    public <I, O> List<CompletableFuture<Collection<O>>> executeAsync(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> callback) {
+        return asyncExecute(executionGroupContext.getInputGroups().iterator(), callback);
+    }
+    
+    /**
+     * Wait for and get results of asynchronous execution.
+     *
+     * <p>All unfinished futures are cancelled when any of them fails or the timeout elapses.</p>
+     *
+     * @param resultFutures execute result futures
+     * @param timeoutMillis timeout in milliseconds for every future, zero or negative means waiting without timeout
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure or timeout
+     */
+    public <O> List<O> getResults(final Collection<CompletableFuture<Collection<O>>> resultFutures, final long timeoutMillis) throws SQLException {
+        return getResults(resultFutures, timeoutMillis, System.nanoTime());
     }
     
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
@@ -123,42 +178,90 @@ public final class ExecutorEngine implements AutoCloseable {
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) throws SQLException {
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                           final long timeoutMillis) throws SQLException {
+        long startNanos = System.nanoTime();
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
-        return getGroupResults(syncExecute(firstInputs, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<CompletableFuture<Collection<O>>> restResultFutures = asyncExecute(executionGroups, callback);
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, null == firstCallback ? callback : firstCallback);
+        } catch (final SQLException | RuntimeException ex) {
+            cancel(restResultFutures);
+            throw ex;
+        }
+        List<O> result = new LinkedList<>(firstResults);
+        result.addAll(getResults(restResultFutures, timeoutMillis, startNanos));
+        return result;
+    }
+    
+    private <O> List<O> getResults(final Collection<CompletableFuture<Collection<O>>> resultFutures, final long timeoutMillis, final long startNanos) throws SQLException {
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<O> result = new LinkedList<>();
+        try {
+            for (CompletableFuture<Collection<O>> each : resultFutures) {
+                result.addAll(timeoutMillis > 0L ? each.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS) : each.get());
+            }
+        } catch (final InterruptedException ex) {
+            cancel(resultFutures);
+            Thread.currentThread().interrupt();
+            throw new UnknownSQLException(ex);
+        } catch (final ExecutionException ex) {
+            cancel(resultFutures);
+            return throwException(ex);
+        } catch (final TimeoutException ex) {
+            cancel(resultFutures);
+            throw new SQLTimeoutException(String.format("Execution timeout after %s ms.", timeoutMillis), ex);
+        }
+        return result;
     }
     
     private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) throws SQLException {
         return callback.execute(executionGroup.getInputs(), true);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+    private <I, O> List<CompletableFuture<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutorCallback<I, O> callback) {
+        List<CompletableFuture<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
             result.add(asyncExecute(executionGroups.next(), callback));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false));
-    }
-    
-    private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
-        for (Future<Collection<O>> each : restFutures) {
+    private <I, O> CompletableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
+        CompletableFuture<Collection<O>> result = new CompletableFuture<>();
+        AtomicBoolean started = new AtomicBoolean();
+        Future<?> future = executorServiceManager.getExecutorService().submit(() -> {
+            started.set(true);
+            if (result.isDone()) {
+                return;
+            }
             try {
-                result.addAll(each.get());
-            } catch (final InterruptedException ex) {
-                Thread.currentThread().interrupt();
-            } catch (final ExecutionException ex) {
-                return throwException(ex);
+                result.complete(callback.execute(executionGroup.getInputs(), false));
+                // CHECKSTYLE:OFF
+            } catch (final Throwable ex) {
+                // CHECKSTYLE:ON
+                result.completeExceptionally(ex);
             }
-        }
+        });
+        result.whenComplete((unused, ex) -> {
+            if (!result.isCancelled()) {
+                return;
+            }
+            future.cancel(false);
+            if (started.get()) {
+                callback.cancel(executionGroup.getInputs());
+            }
+        });
         return result;
     }
     
+    private <O> void cancel(final Collection<CompletableFuture<Collection<O>>> resultFutures) {
+        for (CompletableFuture<Collection<O>> each : resultFutures) {
+            each.cancel(false);
+        }
+    }
+    
     private <O> List<O> throwException(final Exception exception) throws SQLException {
         if (exception.getCause() instanceof SQLException) {
             throw (SQLException) exception.getCause();
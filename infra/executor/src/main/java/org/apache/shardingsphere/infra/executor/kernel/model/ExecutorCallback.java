@@ -37,4 +37,12 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread) throws SQLException;
+    
+    /**
+     * Cancel execution which is running in other thread.
+     * 
+     * @param inputs input values
+     */
+    default void cancel(final Collection<I> inputs) {
+    }
 }
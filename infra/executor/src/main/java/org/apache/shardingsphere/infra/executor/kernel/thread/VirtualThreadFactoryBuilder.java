@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factory builder.
+ * 
+ * <p>Virtual thread is only available since JDK 21, so it is built by reflection to keep compatible with lower JDK.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadFactoryBuilder {
+    
+    private static final String NAME_PREFIX = "ShardingSphere-";
+    
+    private static final Method OF_VIRTUAL_METHOD;
+    
+    private static final Method NAME_METHOD;
+    
+    private static final Method FACTORY_METHOD;
+    
+    static {
+        Method ofVirtualMethod;
+        Method nameMethod;
+        Method factoryMethod;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class);
+            factoryMethod = builderClass.getMethod("factory");
+        } catch (final ReflectiveOperationException ignore) {
+            ofVirtualMethod = null;
+            nameMethod = null;
+            factoryMethod = null;
+        }
+        OF_VIRTUAL_METHOD = ofVirtualMethod;
+        NAME_METHOD = nameMethod;
+        FACTORY_METHOD = factoryMethod;
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     * 
+     * @return virtual thread is supported or not
+     */
+    public static boolean isSupported() {
+        return null != OF_VIRTUAL_METHOD;
+    }
+    
+    /**
+     * Build virtual thread factory with thread name.
+     * 
+     * @param name thread name
+     * @return virtual thread factory, empty if virtual thread is not supported by current JVM
+     */
+    public static Optional<ThreadFactory> build(final String name) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        try {
+            Object builder = NAME_METHOD.invoke(OF_VIRTUAL_METHOD.invoke(null), NAME_PREFIX + name);
+            return Optional.of((ThreadFactory) FACTORY_METHOD.invoke(builder));
+        } catch (final ReflectiveOperationException ignore) {
+            return Optional.empty();
+        }
+    }
+}
@@ -63,8 +63,26 @@ public final class JDBCExecutor {
      */
     public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) throws SQLException {
+        return execute(executionGroupContext, firstCallback, callback, 0L);
+    }
+    
+    /**
+     * Execute with timeout.
+     * 
+     * <p>Execution groups still running in other threads when the timeout elapses are cancelled by {@link java.sql.Statement#cancel()}.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param timeoutMillis timeout in milliseconds, zero or negative means no timeout
+     * @param <T> class type of return value
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> execute(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                               final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final long timeoutMillis) throws SQLException {
         try {
-            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction());
+            return executorEngine.execute(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInTransaction(), timeoutMillis);
         } catch (final SQLException ex) {
             SQLExecutorExceptionHandler.handleException(ex);
             return Collections.emptyList();
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.memory.loader;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.ColumnarMemoryQueryResultDataRows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.math.BigDecimal;
@@ -24,10 +25,7 @@ import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Abstract dialect query result data row loader.
@@ -36,14 +34,14 @@ public abstract class AbstractQueryResultDataRowLoader implements DialectQueryRe
     
     @Override
     public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+        ColumnarMemoryQueryResultDataRows result = new ColumnarMemoryQueryResultDataRows(columnCount);
+        Object[] rowData = new Object[columnCount];
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 Object rowValue = loadRowValue(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.addRow(rowData);
         }
         return result;
     }
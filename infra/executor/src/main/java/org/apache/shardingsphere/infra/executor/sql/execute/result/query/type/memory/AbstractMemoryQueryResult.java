@@ -78,6 +78,27 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
         return result;
     }
     
+    /**
+     * Judge whether value of current row is integral, which is not null and can be read by {@link #getLong(int)}.
+     *
+     * @param columnIndex column index
+     * @return is integral or not
+     */
+    public final boolean isIntegral(final int columnIndex) {
+        return currentRow.isIntegral(columnIndex - 1);
+    }
+    
+    /**
+     * Get integral value of current row without boxing.
+     *
+     * @param columnIndex column index
+     * @return integral value
+     */
+    public final long getLong(final int columnIndex) {
+        wasNull = false;
+        return currentRow.getLong(columnIndex - 1);
+    }
+    
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
         Object result = currentRow.getValue().get(columnIndex - 1);
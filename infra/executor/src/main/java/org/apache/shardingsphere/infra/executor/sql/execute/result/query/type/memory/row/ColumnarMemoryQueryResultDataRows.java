@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Columnar memory query result data rows.
+ * 
+ * <p>Cells are kept per column instead of per row. Columns of primitive wrapper values are kept in primitive buffers, other columns are kept in object arrays.
+ * Iterated rows are views over the columns, which decode cells on each read and provide typed accessors to read integral cells without boxing.</p>
+ */
+public final class ColumnarMemoryQueryResultDataRows extends AbstractCollection<MemoryQueryResultDataRow> {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    private int rowCount;
+    
+    public ColumnarMemoryQueryResultDataRows(final int columnCount) {
+        columns = new MemoryQueryResultColumn[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = new PrimitiveMemoryQueryResultColumn();
+        }
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param values values of row, which are copied into columns
+     */
+    public void addRow(final Object[] values) {
+        for (int i = 0; i < columns.length; i++) {
+            if (!columns[i].add(values[i])) {
+                columns[i] = new ObjectMemoryQueryResultColumn(columns[i], rowCount);
+                columns[i].add(values[i]);
+            }
+        }
+        rowCount++;
+    }
+    
+    @Override
+    public Iterator<MemoryQueryResultDataRow> iterator() {
+        return new RowIterator();
+    }
+    
+    @Override
+    public int size() {
+        return rowCount;
+    }
+    
+    private final class RowIterator implements Iterator<MemoryQueryResultDataRow> {
+        
+        private int rowIndex;
+        
+        @Override
+        public boolean hasNext() {
+            return rowIndex < rowCount;
+        }
+        
+        @Override
+        public MemoryQueryResultDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return new MemoryQueryResultDataRow(new RowView(rowIndex++));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    final class RowView extends AbstractList<Object> {
+        
+        private final int rowIndex;
+        
+        @Override
+        public Object get(final int index) {
+            return columns[index].get(rowIndex);
+        }
+        
+        boolean isIntegral(final int index) {
+            return columns[index].isIntegral(rowIndex);
+        }
+        
+        long getLong(final int index) {
+            return columns[index].getLong(rowIndex);
+        }
+        
+        @Override
+        public int size() {
+            return columns.length;
+        }
+    }
+}
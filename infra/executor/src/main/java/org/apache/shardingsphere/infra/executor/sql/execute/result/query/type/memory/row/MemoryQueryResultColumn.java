@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row;
+
+/**
+ * Memory query result column.
+ */
+interface MemoryQueryResultColumn {
+    
+    /**
+     * Add value to the end of column.
+     *
+     * @param value value
+     * @return whether value is accepted by column or not
+     */
+    boolean add(Object value);
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return value
+     */
+    Object get(int rowIndex);
+    
+    /**
+     * Judge whether value is integral, which is not null and can be read by {@link #getLong(int)} without boxing.
+     *
+     * @param rowIndex row index, start from 0
+     * @return is integral or not
+     */
+    boolean isIntegral(int rowIndex);
+    
+    /**
+     * Get integral value.
+     *
+     * @param rowIndex row index, start from 0
+     * @return integral value
+     */
+    long getLong(int rowIndex);
+}
@@ -30,4 +30,33 @@ import java.util.List;
 public final class MemoryQueryResultDataRow {
     
     private final List<Object> value;
+    
+    /**
+     * Judge whether value is integral, which is not null and can be read by {@link #getLong(int)}.
+     *
+     * @param index value index, start from 0
+     * @return is integral or not
+     */
+    public boolean isIntegral(final int index) {
+        if (value instanceof ColumnarMemoryQueryResultDataRows.RowView) {
+            return ((ColumnarMemoryQueryResultDataRows.RowView) value).isIntegral(index);
+        }
+        Object result = value.get(index);
+        return result instanceof Long || result instanceof Integer || result instanceof Short || result instanceof Byte;
+    }
+    
+    /**
+     * Get integral value.
+     *
+     * <p>Integral value of columnar rows is read from primitive column without boxing.</p>
+     *
+     * @param index value index, start from 0
+     * @return integral value
+     */
+    public long getLong(final int index) {
+        if (value instanceof ColumnarMemoryQueryResultDataRows.RowView) {
+            return ((ColumnarMemoryQueryResultDataRows.RowView) value).getLong(index);
+        }
+        return ((Number) value.get(index)).longValue();
+    }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row;
+
+import java.util.Arrays;
+
+/**
+ * Object memory query result column.
+ */
+final class ObjectMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private Object[] values;
+    
+    private int size;
+    
+    ObjectMemoryQueryResultColumn(final MemoryQueryResultColumn column, final int rowCount) {
+        values = new Object[Math.max(INITIAL_CAPACITY, rowCount * 2)];
+        for (int i = 0; i < rowCount; i++) {
+            values[i] = column.get(i);
+        }
+        size = rowCount;
+    }
+    
+    @Override
+    public boolean add(final Object value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[size++] = value;
+        return true;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return values[rowIndex];
+    }
+    
+    @Override
+    public boolean isIntegral(final int rowIndex) {
+        Object value = values[rowIndex];
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return ((Number) values[rowIndex]).longValue();
+    }
+}
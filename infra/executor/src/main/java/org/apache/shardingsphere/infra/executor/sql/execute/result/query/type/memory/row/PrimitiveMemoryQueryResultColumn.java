@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row;
+
+import lombok.RequiredArgsConstructor;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Primitive memory query result column.
+ * 
+ * <p>Values are encoded into 64 bits and kept in long array, the values move to off-heap chunks of {@code CHUNK_SIZE} once the array grows beyond the chunk size.
+ * Off-heap chunks are appended as the column grows, so values are never copied again after moving to off-heap.
+ * Column only accepts values with same primitive wrapper type, so that value is decoded to its original type.</p>
+ */
+final class PrimitiveMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private static final int CHUNK_SHIFT = 17;
+    
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    
+    private final BitSet nulls = new BitSet();
+    
+    private final List<LongBuffer> offHeapChunks = new ArrayList<>();
+    
+    private PrimitiveType type;
+    
+    private long[] heapValues = new long[INITIAL_CAPACITY];
+    
+    private int size;
+    
+    @Override
+    public boolean add(final Object value) {
+        if (null == value) {
+            ensureCapacity();
+            nulls.set(size++);
+            return true;
+        }
+        PrimitiveType valueType = PrimitiveType.findType(value);
+        if (null == valueType || null != type && type != valueType) {
+            return false;
+        }
+        type = valueType;
+        ensureCapacity();
+        set(size++, valueType.encode(value));
+        return true;
+    }
+    
+    private void ensureCapacity() {
+        if (null == heapValues) {
+            if (size == offHeapChunks.size() * CHUNK_SIZE) {
+                offHeapChunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE * Long.BYTES).asLongBuffer());
+            }
+            return;
+        }
+        if (size < heapValues.length) {
+            return;
+        }
+        if (heapValues.length < CHUNK_SIZE) {
+            heapValues = Arrays.copyOf(heapValues, Math.min(heapValues.length * 2, CHUNK_SIZE));
+            return;
+        }
+        LongBuffer firstChunk = ByteBuffer.allocateDirect(CHUNK_SIZE * Long.BYTES).asLongBuffer();
+        firstChunk.put(heapValues);
+        offHeapChunks.add(firstChunk);
+        offHeapChunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE * Long.BYTES).asLongBuffer());
+        heapValues = null;
+    }
+    
+    private void set(final int rowIndex, final long value) {
+        if (null == heapValues) {
+            offHeapChunks.get(rowIndex >>> CHUNK_SHIFT).put(rowIndex & CHUNK_MASK, value);
+        } else {
+            heapValues[rowIndex] = value;
+        }
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        return nulls.get(rowIndex) ? null : type.decode(getLong(rowIndex));
+    }
+    
+    @Override
+    public boolean isIntegral(final int rowIndex) {
+        return !nulls.get(rowIndex) && type.integral;
+    }
+    
+    @Override
+    public long getLong(final int rowIndex) {
+        return null == heapValues ? offHeapChunks.get(rowIndex >>> CHUNK_SHIFT).get(rowIndex & CHUNK_MASK) : heapValues[rowIndex];
+    }
+    
+    /**
+     * Judge whether column is kept in off-heap chunks.
+     *
+     * @return is off-heap or not
+     */
+    boolean isOffHeap() {
+        return null == heapValues;
+    }
+    
+    @RequiredArgsConstructor
+    private enum PrimitiveType {
+        
+        LONG(Long.class, true) {
+            
+            @Override
+            long encode(final Object value) {
+                return (Long) value;
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return value;
+            }
+        },
+        
+        INTEGER(Integer.class, true) {
+            
+            @Override
+            long encode(final Object value) {
+                return (Integer) value;
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return (int) value;
+            }
+        },
+        
+        SHORT(Short.class, true) {
+            
+            @Override
+            long encode(final Object value) {
+                return (Short) value;
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return (short) value;
+            }
+        },
+        
+        BYTE(Byte.class, true) {
+            
+            @Override
+            long encode(final Object value) {
+                return (Byte) value;
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return (byte) value;
+            }
+        },
+        
+        DOUBLE(Double.class, false) {
+            
+            @Override
+            long encode(final Object value) {
+                return Double.doubleToRawLongBits((Double) value);
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return Double.longBitsToDouble(value);
+            }
+        },
+        
+        FLOAT(Float.class, false) {
+            
+            @Override
+            long encode(final Object value) {
+                return Float.floatToRawIntBits((Float) value);
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return Float.intBitsToFloat((int) value);
+            }
+        },
+        
+        BOOLEAN(Boolean.class, false) {
+            
+            @Override
+            long encode(final Object value) {
+                return (Boolean) value ? 1L : 0L;
+            }
+            
+            @Override
+            Object decode(final long value) {
+                return 1L == value;
+            }
+        };
+        
+        private final Class<?> valueClass;
+        
+        private final boolean integral;
+        
+        abstract long encode(Object value);
+        
+        abstract Object decode(long value);
+        
+        private static PrimitiveType findType(final Object value) {
+            for (PrimitiveType each : values()) {
+                if (each.valueClass == value.getClass()) {
+                    return each;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -21,18 +21,26 @@ import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackF
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
+import org.apache.shardingsphere.infra.util.exception.external.sql.type.generic.UnknownSQLException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
@@ -104,4 +112,103 @@ class ExecutorEngineTest {
         latch.countDown();
         assertTrue(actual.isEmpty());
     }
+    
+    @Test
+    void assertParallelExecuteWhenInterrupted() throws InterruptedException {
+        BlockedCallback blockedCallback = new BlockedCallback();
+        ExecutorCallback<Object, String> interruptedCallback = (inputs, isTrunkThread) -> {
+            awaitQuietly(blockedCallback.startedLatch);
+            Thread.currentThread().interrupt();
+            return Collections.singletonList("succeed");
+        };
+        try {
+            assertThrows(UnknownSQLException.class, () -> executorEngine.execute(executionGroupContext, interruptedCallback, blockedCallback, false));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertTrue(blockedCallback.cancelledLatch.await(10L, TimeUnit.SECONDS));
+        assertFalse(blockedCallback.interrupted);
+    }
+    
+    @Test
+    void assertParallelExecuteWhenFirstGroupFailed() throws InterruptedException {
+        BlockedCallback blockedCallback = new BlockedCallback();
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread) -> {
+            awaitQuietly(blockedCallback.startedLatch);
+            throw new SQLException("failed");
+        };
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.execute(executionGroupContext, failedCallback, blockedCallback, false));
+        assertThat(actual.getMessage(), is("failed"));
+        assertTrue(blockedCallback.cancelledLatch.await(10L, TimeUnit.SECONDS));
+        assertFalse(blockedCallback.interrupted);
+    }
+    
+    @Test
+    void assertParallelExecuteWithTimeout() throws InterruptedException {
+        BlockedCallback blockedCallback = new BlockedCallback();
+        assertThrows(SQLTimeoutException.class, () -> executorEngine.execute(executionGroupContext, callback, blockedCallback, false, 100L));
+        assertTrue(blockedCallback.cancelledLatch.await(10L, TimeUnit.SECONDS));
+        assertFalse(blockedCallback.interrupted);
+    }
+    
+    @Test
+    void assertExecuteAsync() throws SQLException, InterruptedException {
+        List<CompletableFuture<Collection<String>>> actual = executorEngine.executeAsync(executionGroupContext, callback);
+        assertThat(actual.size(), is(2));
+        assertThat(executorEngine.getResults(actual, 0L).size(), is(4));
+        latch.await();
+    }
+    
+    @Test
+    void assertGetResultsWithTimeout() throws InterruptedException {
+        BlockedCallback blockedCallback = new BlockedCallback();
+        List<CompletableFuture<Collection<String>>> resultFutures = executorEngine.executeAsync(executionGroupContext, blockedCallback);
+        assertThrows(SQLTimeoutException.class, () -> executorEngine.getResults(resultFutures, 100L));
+        assertTrue(resultFutures.get(0).isCancelled());
+        assertTrue(blockedCallback.cancelledLatch.await(10L, TimeUnit.SECONDS));
+        assertFalse(blockedCallback.interrupted);
+    }
+    
+    @Test
+    void assertGetResultsWithFailure() {
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread) -> {
+            throw new SQLException("failed");
+        };
+        List<CompletableFuture<Collection<String>>> resultFutures = executorEngine.executeAsync(executionGroupContext, failedCallback);
+        SQLException actual = assertThrows(SQLException.class, () -> executorEngine.getResults(resultFutures, 0L));
+        assertThat(actual.getMessage(), is("failed"));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private static final class BlockedCallback implements ExecutorCallback<Object, String> {
+        
+        private final CountDownLatch startedLatch = new CountDownLatch(1);
+        
+        private final CountDownLatch cancelledLatch = new CountDownLatch(1);
+        
+        private volatile boolean interrupted;
+        
+        @Override
+        public Collection<String> execute(final Collection<Object> inputs, final boolean isTrunkThread) {
+            startedLatch.countDown();
+            try {
+                cancelledLatch.await();
+            } catch (final InterruptedException ex) {
+                interrupted = true;
+            }
+            return Collections.emptyList();
+        }
+        
+        @Override
+        public void cancel(final Collection<Object> inputs) {
+            cancelledLatch.countDown();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarMemoryQueryResultDataRowsTest {
+    
+    @Test
+    void assertIterateRows() {
+        ColumnarMemoryQueryResultDataRows actual = new ColumnarMemoryQueryResultDataRows(6);
+        actual.addRow(new Object[]{1, 1L, 1.5D, true, "foo", null});
+        actual.addRow(new Object[]{null, 2L, 2.5D, false, "bar", new BigDecimal("1.1")});
+        assertThat(actual.size(), is(2));
+        Iterator<MemoryQueryResultDataRow> rows = actual.iterator();
+        assertThat(rows.next().getValue(), is(Arrays.<Object>asList(1, 1L, 1.5D, true, "foo", null)));
+        assertThat(rows.next().getValue(), is(Arrays.<Object>asList(null, 2L, 2.5D, false, "bar", new BigDecimal("1.1"))));
+        assertFalse(rows.hasNext());
+    }
+    
+    @Test
+    void assertGetIntegralValue() {
+        ColumnarMemoryQueryResultDataRows actual = new ColumnarMemoryQueryResultDataRows(4);
+        actual.addRow(new Object[]{100000L, 1.5D, "foo", 1});
+        actual.addRow(new Object[]{null, 2.5D, 2, "bar"});
+        Iterator<MemoryQueryResultDataRow> rows = actual.iterator();
+        MemoryQueryResultDataRow firstRow = rows.next();
+        assertTrue(firstRow.isIntegral(0));
+        assertThat(firstRow.getLong(0), is(100000L));
+        assertFalse(firstRow.isIntegral(1));
+        assertFalse(firstRow.isIntegral(2));
+        assertTrue(firstRow.isIntegral(3));
+        assertThat(firstRow.getLong(3), is(1L));
+        MemoryQueryResultDataRow secondRow = rows.next();
+        assertFalse(secondRow.isIntegral(0));
+        assertTrue(secondRow.isIntegral(2));
+        assertThat(secondRow.getLong(2), is(2L));
+        assertFalse(secondRow.isIntegral(3));
+    }
+    
+    @Test
+    void assertIterateRowsWithMixedTypeColumn() {
+        ColumnarMemoryQueryResultDataRows actual = new ColumnarMemoryQueryResultDataRows(1);
+        actual.addRow(new Object[]{1});
+        actual.addRow(new Object[]{null});
+        actual.addRow(new Object[]{1L});
+        actual.addRow(new Object[]{"foo"});
+        Iterator<MemoryQueryResultDataRow> rows = actual.iterator();
+        assertThat(rows.next().getValue().get(0), is((Object) 1));
+        assertThat(rows.next().getValue().get(0), is((Object) null));
+        assertThat(rows.next().getValue().get(0), is((Object) 1L));
+        assertThat(rows.next().getValue().get(0), is((Object) "foo"));
+    }
+    
+    @Test
+    void assertIterateWithoutNextRow() {
+        Iterator<MemoryQueryResultDataRow> rows = new ColumnarMemoryQueryResultDataRows(1).iterator();
+        assertFalse(rows.hasNext());
+        assertThrows(NoSuchElementException.class, rows::next);
+    }
+    
+    @Test
+    void assertPrimitiveColumnMovesToOffHeap() {
+        PrimitiveMemoryQueryResultColumn actual = new PrimitiveMemoryQueryResultColumn();
+        for (long i = 0L; i < 131072L; i++) {
+            assertTrue(actual.add(i));
+        }
+        assertFalse(actual.isOffHeap());
+        for (long i = 131072L; i < 300000L; i++) {
+            assertTrue(actual.add(i));
+        }
+        assertTrue(actual.isOffHeap());
+        assertThat(actual.get(0), is((Object) 0L));
+        assertThat(actual.get(131071), is((Object) 131071L));
+        assertThat(actual.get(131072), is((Object) 131072L));
+        assertThat(actual.getLong(299999), is(299999L));
+        assertFalse(actual.add(1));
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.infra.expr.espresso;
 
 import groovy.lang.Closure;
 import org.apache.shardingsphere.infra.expr.hotsopt.HotspotInlineExpressionParser;
+import org.apache.shardingsphere.infra.expr.hotsopt.InlineExpressionCompiler;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 import org.graalvm.polyglot.Context;
@@ -74,6 +76,11 @@ public final class EspressoInlineExpressionParser implements InlineExpressionPar
         }
     }
     
+    @Override
+    public InlineExpressionEvaluator compile(final String inlineExpression) {
+        return InlineExpressionCompiler.compile(inlineExpression, InlineExpressionParser.super.compile(inlineExpression));
+    }
+    
     private Value createInlineExpressionParser(final Context context) {
         return context.getBindings("java").getMember(HotspotInlineExpressionParser.class.getName()).newInstance();
     }
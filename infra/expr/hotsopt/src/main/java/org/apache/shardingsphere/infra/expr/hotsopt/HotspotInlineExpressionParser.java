@@ -23,6 +23,7 @@ import groovy.lang.Closure;
 import groovy.lang.GString;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
 import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 
 import java.util.ArrayList;
@@ -61,6 +62,11 @@ public final class HotspotInlineExpressionParser implements InlineExpressionPars
         return (Closure<?>) evaluate("{it -> \"" + inlineExpression + "\"}");
     }
     
+    @Override
+    public InlineExpressionEvaluator compile(final String inlineExpression) {
+        return InlineExpressionCompiler.compile(inlineExpression, InlineExpressionParser.super.compile(inlineExpression));
+    }
+    
     private List<Object> evaluate(final List<String> inlineExpressions) {
         List<Object> result = new ArrayList<>(inlineExpressions.size());
         for (String each : inlineExpressions) {
@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.hotsopt;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Inline expression compiler.
+ *
+ * <p>Compiles inline expressions made of plain text and {@code ${...}} placeholders into an immutable evaluator without Groovy.
+ * Placeholders may contain variables, integer and single quoted string literals, parentheses, unary minus and {@code + - * %}.
+ * Other syntax is evaluated by the fallback evaluator, and so are operands which are neither integer nor string.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class InlineExpressionCompiler {
+    
+    private static final Object UNSUPPORTED = new Object();
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList(
+            "it", "this", "super", "owner", "delegate", "null", "true", "false", "new", "in", "as", "instanceof", "def", "var", "class"));
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $}
+     * @param fallback fallback evaluator for unsupported syntax or operands
+     * @return compiled evaluator, or fallback evaluator if the inline expression can not be compiled
+     */
+    public static InlineExpressionEvaluator compile(final String inlineExpression, final InlineExpressionEvaluator fallback) {
+        try {
+            return new CompiledInlineExpressionEvaluator(parseSegments(inlineExpression), fallback);
+        } catch (final UnsupportedSyntaxException ignored) {
+            return fallback;
+        }
+    }
+    
+    private static List<Node> parseSegments(final String inlineExpression) {
+        List<Node> result = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int position = 0;
+        while (position < inlineExpression.length()) {
+            char each = inlineExpression.charAt(position);
+            if ('$' == each && position + 1 < inlineExpression.length() && '{' == inlineExpression.charAt(position + 1)) {
+                int end = inlineExpression.indexOf('}', position + 2);
+                if (end < 0) {
+                    throw new UnsupportedSyntaxException();
+                }
+                if (text.length() > 0) {
+                    result.add(new LiteralNode(text.toString()));
+                    text.setLength(0);
+                }
+                result.add(new ExpressionParser(inlineExpression.substring(position + 2, end)).parse());
+                position = end + 1;
+                continue;
+            }
+            if ('$' == each || '\\' == each || '"' == each) {
+                throw new UnsupportedSyntaxException();
+            }
+            text.append(each);
+            position++;
+        }
+        if (text.length() > 0) {
+            result.add(new LiteralNode(text.toString()));
+        }
+        return result;
+    }
+    
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+    
+    private static boolean isRenderable(final Object value) {
+        return value instanceof String || isIntegral(value);
+    }
+    
+    private interface Node {
+        
+        Object evaluate(Map<String, ?> variables);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements Node {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class VariableNode implements Node {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            return variables.get(name);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements Node {
+        
+        private final Node operand;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object value = operand.evaluate(variables);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            if (value instanceof Long) {
+                return -(Long) value;
+            }
+            return UNSUPPORTED;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements Node {
+        
+        private final char operator;
+        
+        private final Node left;
+        
+        private final Node right;
+        
+        @Override
+        public Object evaluate(final Map<String, ?> variables) {
+            Object leftValue = left.evaluate(variables);
+            if (UNSUPPORTED == leftValue) {
+                return UNSUPPORTED;
+            }
+            Object rightValue = right.evaluate(variables);
+            if (!isRenderable(leftValue) || !isRenderable(rightValue)) {
+                return UNSUPPORTED;
+            }
+            if (leftValue instanceof String || rightValue instanceof String) {
+                return '+' == operator ? leftValue.toString() + rightValue : UNSUPPORTED;
+            }
+            if (leftValue instanceof Integer && rightValue instanceof Integer) {
+                return calculate((Integer) leftValue, (Integer) rightValue);
+            }
+            return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? UNSUPPORTED : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class CompiledInlineExpressionEvaluator implements InlineExpressionEvaluator {
+        
+        private final List<Node> segments;
+        
+        private final InlineExpressionEvaluator fallback;
+        
+        @Override
+        public String evaluate(final Map<String, ?> variables) {
+            StringBuilder result = new StringBuilder();
+            for (Node each : segments) {
+                Object value = each.evaluate(variables);
+                if (!isRenderable(value)) {
+                    return fallback.evaluate(variables);
+                }
+                result.append(value);
+            }
+            return result.toString();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionParser {
+        
+        private final String expression;
+        
+        private int position;
+        
+        Node parse() {
+            Node result = parseAdditive();
+            skipWhitespace();
+            if (position != expression.length()) {
+                throw new UnsupportedSyntaxException();
+            }
+            return result;
+        }
+        
+        private Node parseAdditive() {
+            Node result = parseMultiplicative();
+            while (true) {
+                skipWhitespace();
+                char operator = peek();
+                if ('+' != operator && '-' != operator) {
+                    return result;
+                }
+                consumeOperator();
+                result = new BinaryNode(operator, result, parseMultiplicative());
+            }
+        }
+        
+        private Node parseMultiplicative() {
+            Node result = parseUnary();
+            while (true) {
+                skipWhitespace();
+                char operator = peek();
+                if ('*' != operator && '%' != operator) {
+                    return result;
+                }
+                consumeOperator();
+                result = new BinaryNode(operator, result, parseUnary());
+            }
+        }
+        
+        private Node parseUnary() {
+            skipWhitespace();
+            if ('-' == peek()) {
+                consumeOperator();
+                return new NegateNode(parseUnary());
+            }
+            return parsePrimary();
+        }
+        
+        private Node parsePrimary() {
+            char each = peek();
+            if ('(' == each) {
+                position++;
+                Node result = parseAdditive();
+                skipWhitespace();
+                if (')' != peek()) {
+                    throw new UnsupportedSyntaxException();
+                }
+                position++;
+                return result;
+            }
+            if ('\'' == each) {
+                return parseStringLiteral();
+            }
+            if (isDigit(each)) {
+                return parseIntegerLiteral();
+            }
+            if (isIdentifierStart(each)) {
+                return parseVariable();
+            }
+            throw new UnsupportedSyntaxException();
+        }
+        
+        private Node parseStringLiteral() {
+            int end = expression.indexOf('\'', position + 1);
+            if (end < 0) {
+                throw new UnsupportedSyntaxException();
+            }
+            String value = expression.substring(position + 1, end);
+            if (value.indexOf('\\') >= 0) {
+                throw new UnsupportedSyntaxException();
+            }
+            position = end + 1;
+            return new LiteralNode(value);
+        }
+        
+        private Node parseIntegerLiteral() {
+            int start = position;
+            while (isDigit(peek())) {
+                position++;
+            }
+            String literal = expression.substring(start, position);
+            // octal, hexadecimal, decimal, underscored and suffixed literals are left to groovy
+            if ((literal.length() > 1 && '0' == literal.charAt(0)) || '.' == peek() || isIdentifierPart(peek())) {
+                throw new UnsupportedSyntaxException();
+            }
+            try {
+                return new LiteralNode(Integer.parseInt(literal));
+            } catch (final NumberFormatException ignored) {
+                try {
+                    return new LiteralNode(Long.parseLong(literal));
+                } catch (final NumberFormatException ex) {
+                    throw new UnsupportedSyntaxException();
+                }
+            }
+        }
+        
+        private Node parseVariable() {
+            int start = position;
+            while (isIdentifierPart(peek())) {
+                position++;
+            }
+            String name = expression.substring(start, position);
+            if (RESERVED_WORDS.contains(name)) {
+                throw new UnsupportedSyntaxException();
+            }
+            return new VariableNode(name);
+        }
+        
+        private void consumeOperator() {
+            position++;
+            char next = peek();
+            // compound operators such as '**', '++', '--' and '%=' are left to groovy
+            if ('+' == next || '-' == next || '*' == next || '%' == next || '=' == next) {
+                throw new UnsupportedSyntaxException();
+            }
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+        
+        private char peek() {
+            return position < expression.length() ? expression.charAt(position) : 0;
+        }
+        
+        private boolean isDigit(final char each) {
+            return each >= '0' && each <= '9';
+        }
+        
+        private boolean isIdentifierStart(final char each) {
+            return '_' == each || each >= 'a' && each <= 'z' || each >= 'A' && each <= 'Z';
+        }
+        
+        private boolean isIdentifierPart(final char each) {
+            return isIdentifierStart(each) || isDigit(each) || '$' == each;
+        }
+    }
+    
+    private static final class UnsupportedSyntaxException extends RuntimeException {
+        
+        private static final long serialVersionUID = -2817216306446138372L;
+        
+        UnsupportedSyntaxException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.hotsopt;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class InlineExpressionCompilerTest {
+    
+    private static final InlineExpressionEvaluator FALLBACK = variables -> "fallback";
+    
+    @Test
+    void assertCompileModulo() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${user_id % 16}", FALLBACK);
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", 35)), is("t_order_3"));
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", 35L)), is("t_order_3"));
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", -35)), is("t_order_-3"));
+    }
+    
+    @Test
+    void assertCompileArithmeticWithPrecedence() {
+        Map<String, Object> variables = new HashMap<>(2, 1F);
+        variables.put("user_id", 7);
+        variables.put("order_id", 5L);
+        assertThat(InlineExpressionCompiler.compile("ds_${(user_id + order_id) % 4}_${-user_id * 2 + 1 - order_id}", FALLBACK).evaluate(variables), is("ds_0_-18"));
+    }
+    
+    @Test
+    void assertCompileStringConcat() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_${'order_' + status + 1}", FALLBACK);
+        assertThat(actual.evaluate(Collections.singletonMap("status", "new")), is("t_order_new1"));
+    }
+    
+    @Test
+    void assertCompileVariable() {
+        assertThat(InlineExpressionCompiler.compile("${value}", FALLBACK).evaluate(Collections.singletonMap("value", "ds_1")), is("ds_1"));
+    }
+    
+    @Test
+    void assertCompileWithUnsupportedSyntax() {
+        assertThat(InlineExpressionCompiler.compile("t_order_${user_id.hashCode() % 16}", FALLBACK).evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+        assertThat(InlineExpressionCompiler.compile("t_order_${user_id / 16}", FALLBACK).evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+        assertThat(InlineExpressionCompiler.compile("t_order_${user_id ** 2}", FALLBACK).evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+        assertThat(InlineExpressionCompiler.compile("t_order_${010 + user_id}", FALLBACK).evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+        assertThat(InlineExpressionCompiler.compile("t_order_$user_id", FALLBACK).evaluate(Collections.singletonMap("user_id", 1)), is("fallback"));
+    }
+    
+    @Test
+    void assertEvaluateWithUnsupportedOperand() {
+        InlineExpressionEvaluator actual = InlineExpressionCompiler.compile("t_order_${user_id % 16}", FALLBACK);
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", BigInteger.TEN)), is("fallback"));
+        assertThat(actual.evaluate(Collections.singletonMap("user_id", "10")), is("fallback"));
+        assertThat(actual.evaluate(Collections.emptyMap()), is("fallback"));
+    }
+    
+    @Test
+    void assertEvaluateSameAsGroovy() {
+        HotspotInlineExpressionParser parser = new HotspotInlineExpressionParser();
+        for (String each : new String[]{"t_order_${user_id % 16}", "ds_${(user_id + 3) * 2 - 1}", "t_${user_id % 2}_${'x' + user_id}"}) {
+            for (Object value : new Object[]{0, 17, -17, Integer.MAX_VALUE, 1L << 40}) {
+                Map<String, Object> variables = Collections.singletonMap("user_id", value);
+                assertThat(parser.compile(each).evaluate(variables), is(evaluateWithClosure(parser, each, variables)));
+            }
+        }
+    }
+    
+    private String evaluateWithClosure(final HotspotInlineExpressionParser parser, final String inlineExpression, final Map<String, Object> variables) {
+        Closure<?> closure = parser.evaluateClosure(inlineExpression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        variables.forEach(closure::setProperty);
+        return closure.call().toString();
+    }
+}
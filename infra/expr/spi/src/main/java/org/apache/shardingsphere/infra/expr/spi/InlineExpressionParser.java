@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.infra.expr.spi;
 
 import groovy.lang.Closure;
+import groovy.util.Expando;
 import org.apache.shardingsphere.infra.util.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPI;
 
@@ -52,4 +53,21 @@ public interface InlineExpressionParser extends TypedSPI {
      * @return closure
      */
     Closure<?> evaluateClosure(String inlineExpression);
+    
+    /**
+     * Compile inline expression to evaluator.
+     *
+     * <p>The default evaluator rehydrates a fresh closure for every evaluation.</p>
+     *
+     * @param inlineExpression inline expression
+     * @return inline expression evaluator
+     */
+    default InlineExpressionEvaluator compile(final String inlineExpression) {
+        return variables -> {
+            Closure<?> closure = evaluateClosure(inlineExpression).rehydrate(new Expando(), null, null);
+            closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+            variables.forEach(closure::setProperty);
+            return closure.call().toString();
+        };
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge.engine.merger;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 
@@ -41,4 +42,20 @@ public interface ResultMergerEngine<T extends ShardingSphereRule> extends Result
      * @return created instance
      */
     ResultMerger newInstance(String databaseName, DatabaseType protocolType, T rule, ConfigurationProperties props, SQLStatementContext sqlStatementContext);
+    
+    /**
+     * Create new instance of result merger engine with executor engine.
+     *
+     * @param databaseName database name
+     * @param protocolType protocol type
+     * @param rule rule
+     * @param props ShardingSphere properties
+     * @param sqlStatementContext SQL statement context
+     * @param executorEngine executor engine which result merger can use to merge in parallel
+     * @return created instance
+     */
+    default ResultMerger newInstance(String databaseName, DatabaseType protocolType, T rule, ConfigurationProperties props, SQLStatementContext sqlStatementContext,
+                                     ExecutorEngine executorEngine) {
+        return newInstance(databaseName, protocolType, rule, props, sqlStatementContext);
+    }
 }
@@ -19,22 +19,10 @@ package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
-import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
-import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
 
-import java.io.InputStream;
-import java.io.Reader;
-import java.sql.Blob;
-import java.sql.Clob;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
-import java.sql.SQLXML;
-import java.util.Arrays;
-import java.util.Calendar;
-import java.util.Collection;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 
@@ -43,21 +31,15 @@ import java.util.List;
  *
  * @param <T> type of rule
  */
-public abstract class MemoryMergedResult<T extends ShardingSphereRule> implements MergedResult {
-    
-    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+public abstract class MemoryMergedResult<T extends ShardingSphereRule> extends AbstractMemoryMergedResult {
     
     private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
     
-    private MemoryQueryResultRow currentResultSetRow;
-    
-    private boolean wasNull;
-    
     protected MemoryMergedResult(final T rule, final ShardingSphereSchema schema, final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         List<MemoryQueryResultRow> memoryQueryResultRows = init(rule, schema, sqlStatementContext, queryResults);
         memoryResultSetRows = memoryQueryResultRows.iterator();
         if (!memoryQueryResultRows.isEmpty()) {
-            currentResultSetRow = memoryQueryResultRows.get(0);
+            setCurrentResultSetRow(memoryQueryResultRows.get(0));
         }
     }
     
@@ -66,40 +48,9 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
     @Override
     public final boolean next() {
         if (memoryResultSetRows.hasNext()) {
-            currentResultSetRow = memoryResultSetRows.next();
+            setCurrentResultSetRow(memoryResultSetRows.next());
             return true;
         }
         return false;
     }
-    
-    @Override
-    public final Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        ShardingSpherePreconditions.checkState(!INVALID_MEMORY_TYPES.contains(type), () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        // TODO implement with calendar
-        Object result = currentResultSetRow.getCell(columnIndex);
-        wasNull = null == result;
-        return result;
-    }
-    
-    @Override
-    public final InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
-        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
-    }
-    
-    @Override
-    public Reader getCharacterStream(final int columnIndex) throws SQLException {
-        throw new SQLFeatureNotSupportedException("Get Character stream");
-    }
-    
-    @Override
-    public final boolean wasNull() {
-        return wasNull;
-    }
 }
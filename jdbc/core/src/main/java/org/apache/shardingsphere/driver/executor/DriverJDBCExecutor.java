@@ -36,6 +36,8 @@ import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Driver JDBC executor.
@@ -73,12 +75,17 @@ public final class DriverJDBCExecutor {
                                           final QueryContext queryContext, final ExecuteQueryCallback callback) throws SQLException {
         try {
             processEngine.executeSQL(executionGroupContext, queryContext);
-            return jdbcExecutor.execute(executionGroupContext, callback);
+            return jdbcExecutor.execute(executionGroupContext, null, callback, getQueryTimeoutMillis(executionGroupContext));
         } finally {
             processEngine.completeSQLExecution();
         }
     }
     
+    private long getQueryTimeoutMillis(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
+        Optional<JDBCExecutionUnit> executionUnit = executionGroupContext.getInputGroups().stream().flatMap(each -> each.getInputs().stream()).findFirst();
+        return executionUnit.isPresent() ? TimeUnit.SECONDS.toMillis(executionUnit.get().getStorageResource().getQueryTimeout()) : 0L;
+    }
+    
     /**
      * Execute update.
      *
@@ -62,6 +62,9 @@ public class DumperConfiguration {
     
     private boolean decodeWithTX;
     
+    // binlog events are decoded in caller thread when it's not greater than 1
+    private int decodeWorkerThread;
+    
     /**
      * Get logic table name.
      *
@@ -32,4 +32,22 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm {
      * @param data delta value for how much changed
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feedback elapsed time of intercepted operation.
+     *
+     * @param type job operation type
+     * @param elapsedMillis elapsed milliseconds of operation, not including time blocked by interception
+     */
+    default void feedback(final JobOperationType type, final long elapsedMillis) {
+    }
+    
+    /**
+     * Get current rate.
+     *
+     * @return current permits per second, 0 if unknown
+     */
+    default double getRate() {
+        return 0D;
+    }
 }
@@ -157,6 +157,26 @@ public interface PipelineSQLBuilder extends TypedSPI {
      */
     String buildUniqueKeyMinMaxValuesSQL(String schemaName, String tableName, String uniqueKey);
     
+    /**
+     * Build unique key range end SQL, which queries the unique key at given offset from begin value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return range end unique key SQL
+     */
+    String buildUniqueKeyRangeEndSQL(String schemaName, String tableName, String uniqueKey);
+    
+    /**
+     * Build next unique key SQL, which queries the minimum unique key greater than given value.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @param uniqueKey unique key
+     * @return next unique key SQL
+     */
+    String buildNextUniqueKeySQL(String schemaName, String tableName, String uniqueKey);
+    
     /**
      * Build query all ordering SQL.
      *
@@ -36,5 +36,7 @@ public final class PipelineReadConfiguration {
     
     private final Integer shardingSize;
     
+    private final Integer decodeWorkerThread;
+    
     private final AlgorithmConfiguration rateLimiter;
 }
@@ -35,12 +35,16 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
     
     private static final Integer DEFAULT_SHARDING_SIZE = 10000000;
     
+    private static final Integer DEFAULT_DECODE_WORKER_THREAD = 1;
+    
     private Integer workerThread;
     
     private Integer batchSize;
     
     private Integer shardingSize;
     
+    private Integer decodeWorkerThread;
+    
     private YamlAlgorithmConfiguration rateLimiter;
     
     /**
@@ -53,6 +57,7 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
         result.workerThread = DEFAULT_WORKER_THREAD;
         result.batchSize = DEFAULT_BATCH_SIZE;
         result.shardingSize = DEFAULT_SHARDING_SIZE;
+        result.decodeWorkerThread = DEFAULT_DECODE_WORKER_THREAD;
         return result;
     }
     
@@ -69,5 +74,8 @@ public final class YamlPipelineReadConfiguration implements YamlConfiguration {
         if (null == shardingSize) {
             shardingSize = DEFAULT_SHARDING_SIZE;
         }
+        if (null == decodeWorkerThread) {
+            decodeWorkerThread = DEFAULT_DECODE_WORKER_THREAD;
+        }
     }
 }
@@ -29,8 +29,12 @@ import org.apache.shardingsphere.data.pipeline.common.ingest.channel.PipelineCha
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineLazyInitializer;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 /**
  * Abstract inventory incremental process context.
  */
@@ -51,6 +55,8 @@ public abstract class AbstractInventoryIncrementalProcessContext implements Inve
     
     private final PipelineLazyInitializer<ExecuteEngine> incrementalExecuteEngineLazyInitializer;
     
+    private final PipelineLazyInitializer<ExecutorService> sinkWriterExecutorLazyInitializer;
+    
     protected AbstractInventoryIncrementalProcessContext(final String jobId, final PipelineProcessConfiguration originalProcessConfig) {
         PipelineProcessConfiguration processConfig = PipelineProcessConfigurationUtils.convertWithDefaultValue(originalProcessConfig);
         this.pipelineProcessConfig = processConfig;
@@ -83,6 +89,13 @@ public abstract class AbstractInventoryIncrementalProcessContext implements Inve
                 return ExecuteEngine.newCachedThreadInstance("Incremental-" + jobId);
             }
         };
+        sinkWriterExecutorLazyInitializer = new PipelineLazyInitializer<ExecutorService>() {
+            
+            @Override
+            protected ExecutorService doInitialize() {
+                return Executors.newFixedThreadPool(writeConfig.getWorkerThread(), ExecutorThreadFactoryBuilder.build("pipeline-SinkWriter-" + jobId + "-%d"));
+            }
+        };
     }
     
     @Override
@@ -107,11 +120,24 @@ public abstract class AbstractInventoryIncrementalProcessContext implements Inve
         return incrementalExecuteEngineLazyInitializer.get();
     }
     
+    /**
+     * Get sink writer executor, which is shared by all sinks of job, so writer threads count is bounded by write worker thread.
+     *
+     * @return sink writer executor
+     */
+    @SneakyThrows(ConcurrentException.class)
+    public ExecutorService getSinkWriterExecutor() {
+        return sinkWriterExecutorLazyInitializer.get();
+    }
+    
     @Override
     public void close() throws Exception {
         shutdownExecuteEngine(inventoryDumperExecuteEngineLazyInitializer);
         shutdownExecuteEngine(inventoryImporterExecuteEngineLazyInitializer);
         shutdownExecuteEngine(incrementalExecuteEngineLazyInitializer);
+        if (sinkWriterExecutorLazyInitializer.isInitialized()) {
+            sinkWriterExecutorLazyInitializer.get().shutdownNow();
+        }
     }
     
     private void shutdownExecuteEngine(final PipelineLazyInitializer<ExecuteEngine> lazyInitializer) throws ConcurrentException {
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Blocking memory pipeline channel, which is bounded by records count and wakes up consumer on arrival instead of polling.
+ */
+public final class BlockingMemoryPipelineChannel implements PipelineChannel {
+    
+    private final int capacity;
+    
+    private final AckCallback ackCallback;
+    
+    private final Queue<List<Record>> queue = new ArrayDeque<>();
+    
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notEmpty = lock.newCondition();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private int recordsCount;
+    
+    public BlockingMemoryPipelineChannel(final int capacity, final AckCallback ackCallback) {
+        this.capacity = Math.max(capacity, 1);
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void pushRecords(final List<Record> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        lock.lockInterruptibly();
+        try {
+            while (!queue.isEmpty() && recordsCount + records.size() > capacity) {
+                notFull.await();
+            }
+            queue.add(records);
+            recordsCount += records.size();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetchRecords(final int batchSize, final long timeout, final TimeUnit timeUnit) {
+        long remainingNanos = timeUnit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (recordsCount < batchSize && remainingNanos > 0L) {
+                remainingNanos = notEmpty.awaitNanos(remainingNanos);
+            }
+            if (queue.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<Record> result = new ArrayList<>(Math.min(recordsCount, batchSize));
+            while (!queue.isEmpty() && result.size() < batchSize) {
+                result.addAll(dequeue());
+            }
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> peekRecords() {
+        lock.lock();
+        try {
+            List<Record> result = queue.peek();
+            return null != result ? result : Collections.emptyList();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public List<Record> pollRecords() {
+        lock.lock();
+        try {
+            return queue.isEmpty() ? Collections.emptyList() : dequeue();
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private List<Record> dequeue() {
+        List<Record> result = queue.poll();
+        recordsCount -= result.size();
+        notFull.signalAll();
+        return result;
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+    
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            queue.clear();
+            recordsCount = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
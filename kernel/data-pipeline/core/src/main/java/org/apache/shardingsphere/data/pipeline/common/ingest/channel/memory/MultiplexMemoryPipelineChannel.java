@@ -45,8 +45,12 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     private final Map<String, Integer> channelAssignment = new HashMap<>();
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
-        this.channelNumber = channelNumber;
-        channels = IntStream.range(0, channelNumber).mapToObj(each -> new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList());
+        this(IntStream.range(0, channelNumber).mapToObj(each -> (PipelineChannel) new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback)).collect(Collectors.toList()));
+    }
+    
+    public MultiplexMemoryPipelineChannel(final List<PipelineChannel> channels) {
+        channelNumber = channels.size();
+        this.channels = channels;
     }
     
     @Override
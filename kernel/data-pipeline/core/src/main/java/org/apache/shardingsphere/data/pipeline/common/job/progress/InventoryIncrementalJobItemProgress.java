@@ -43,4 +43,6 @@ public final class InventoryIncrementalJobItemProgress implements PipelineJobIte
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private long writeRateLimit;
 }
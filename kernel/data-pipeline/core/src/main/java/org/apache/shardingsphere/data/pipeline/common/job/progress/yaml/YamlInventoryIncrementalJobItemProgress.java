@@ -41,4 +41,6 @@ public final class YamlInventoryIncrementalJobItemProgress implements YamlConfig
     private long processedRecordsCount;
     
     private long inventoryRecordsCount;
+    
+    private long writeRateLimit;
 }
@@ -40,6 +40,7 @@ public final class YamlInventoryIncrementalJobItemProgressSwapper implements Yam
         result.setIncremental(incrementalTasksProgressSwapper.swapToYaml(progress.getIncremental()));
         result.setProcessedRecordsCount(progress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(progress.getInventoryRecordsCount());
+        result.setWriteRateLimit(progress.getWriteRateLimit());
         return result;
     }
     
@@ -53,6 +54,7 @@ public final class YamlInventoryIncrementalJobItemProgressSwapper implements Yam
         result.setIncremental(incrementalTasksProgressSwapper.swapToObject(yamlProgress.getSourceDatabaseType(), yamlProgress.getIncremental()));
         result.setProcessedRecordsCount(yamlProgress.getProcessedRecordsCount());
         result.setInventoryRecordsCount(yamlProgress.getInventoryRecordsCount());
+        result.setWriteRateLimit(yamlProgress.getWriteRateLimit());
         return result;
     }
 }
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ratelimit;
+
+import com.google.common.base.Strings;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobRateLimitAlgorithmInitializationException;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+
+import java.util.Properties;
+
+/**
+ * Adaptive TPS job rate limit algorithm.
+ *
+ * <p>Rate is adjusted by additive increase and multiplicative decrease according to the elapsed time of write operations on target,
+ * it increases while writing is faster than latency threshold, and is halved at most once per latency threshold while writing is slower.</p>
+ */
+@Slf4j
+public final class AdaptiveTPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    private static final String MIN_TPS_KEY = "min-tps";
+    
+    private static final String MAX_TPS_KEY = "max-tps";
+    
+    private static final String LATENCY_THRESHOLD_MILLIS_KEY = "latency-threshold-millis";
+    
+    private static final int INCREASE_STEPS = 50;
+    
+    private int minTPS = 10;
+    
+    private int maxTPS = 2000;
+    
+    private long latencyThresholdMillis = 1000L;
+    
+    private double increment;
+    
+    private long lastDecreaseMillis;
+    
+    private volatile double rate;
+    
+    private RateLimiter rateLimiter;
+    
+    @Override
+    public void init(final Properties props) {
+        minTPS = getPositiveIntegerValue(props, MIN_TPS_KEY, minTPS);
+        maxTPS = getPositiveIntegerValue(props, MAX_TPS_KEY, maxTPS);
+        latencyThresholdMillis = getPositiveIntegerValue(props, LATENCY_THRESHOLD_MILLIS_KEY, (int) latencyThresholdMillis);
+        ShardingSpherePreconditions.checkState(minTPS <= maxTPS, () -> new JobRateLimitAlgorithmInitializationException(getType(), "min-tps must not be greater than max-tps"));
+        increment = Math.max(1D, (double) (maxTPS - minTPS) / INCREASE_STEPS);
+        rate = minTPS;
+        rateLimiter = RateLimiter.create(rate);
+    }
+    
+    private int getPositiveIntegerValue(final Properties props, final String key, final int defaultValue) {
+        String value = props.getProperty(key);
+        if (Strings.isNullOrEmpty(value)) {
+            return defaultValue;
+        }
+        int result = Integer.parseInt(value);
+        ShardingSpherePreconditions.checkState(result > 0, () -> new JobRateLimitAlgorithmInitializationException(getType(), String.format("%s must be a positive number", key)));
+        return result;
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        if (isWriteOperation(type)) {
+            rateLimiter.acquire(null != data ? data.intValue() : 1);
+        }
+    }
+    
+    @Override
+    public synchronized void feedback(final JobOperationType type, final long elapsedMillis) {
+        if (!isWriteOperation(type)) {
+            return;
+        }
+        if (elapsedMillis <= latencyThresholdMillis) {
+            if (rate < maxTPS) {
+                updateRate(Math.min(maxTPS, rate + increment));
+            }
+            return;
+        }
+        long currentMillis = System.currentTimeMillis();
+        if (rate > minTPS && currentMillis - lastDecreaseMillis >= latencyThresholdMillis) {
+            lastDecreaseMillis = currentMillis;
+            double newRate = Math.max(minTPS, rate / 2);
+            log.info("Write elapsed {} ms exceeds threshold {} ms, decrease TPS from {} to {}", elapsedMillis, latencyThresholdMillis, rate, newRate);
+            updateRate(newRate);
+        }
+    }
+    
+    private void updateRate(final double newRate) {
+        rate = newRate;
+        rateLimiter.setRate(newRate);
+    }
+    
+    private boolean isWriteOperation(final JobOperationType type) {
+        return JobOperationType.INSERT == type || JobOperationType.UPDATE == type || JobOperationType.DELETE == type;
+    }
+    
+    @Override
+    public double getRate() {
+        return rate;
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE_TPS";
+    }
+}
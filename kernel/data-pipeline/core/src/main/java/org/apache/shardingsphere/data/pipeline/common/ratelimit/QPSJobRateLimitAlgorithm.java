@@ -55,6 +55,11 @@ public final class QPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
         rateLimiter.acquire(null != data ? data.intValue() : 1);
     }
     
+    @Override
+    public double getRate() {
+        return rateLimiter.getRate();
+    }
+    
     @Override
     public String getType() {
         return "QPS";
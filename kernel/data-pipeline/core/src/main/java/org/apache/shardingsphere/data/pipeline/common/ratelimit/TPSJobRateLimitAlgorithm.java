@@ -59,6 +59,11 @@ public final class TPSJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
         }
     }
     
+    @Override
+    public double getRate() {
+        return rateLimiter.getRate();
+    }
+    
     @Override
     public String getType() {
         return "TPS";
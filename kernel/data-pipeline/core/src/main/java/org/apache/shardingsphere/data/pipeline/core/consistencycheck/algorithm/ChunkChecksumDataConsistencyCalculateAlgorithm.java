@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.algorithm;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.ChunkChecksumCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.data.pipeline.core.exception.data.PipelineTableDataConsistencyCheckLoadingFailedException;
+import org.apache.shardingsphere.data.pipeline.spi.ingest.dumper.ColumnValueReader;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.util.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.util.spi.ShardingSphereServiceLoader;
+import org.apache.shardingsphere.infra.util.spi.annotation.SPIDescription;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Chunk checksum data consistency calculate algorithm.
+ *
+ * <p>Records are streamed ordered by unique key, and every chunk is reduced to records count, unique key range and checksum,
+ * so that only a few bytes per chunk are kept in memory and compared, and the unique key range of mismatched chunk could be located.</p>
+ *
+ * <p>Chunk ends at record whose unique key hash is divisible by chunk size, so chunk boundaries depend on unique key values instead of records count,
+ * and a missing record on one side does not shift the following chunks. Column values are normalized per JDBC type before hashing.</p>
+ */
+@SPIDescription("Match checksum of records chunk.")
+public final class ChunkChecksumDataConsistencyCalculateAlgorithm extends AbstractRecordStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = ShardingSphereServiceLoader
+            .getServiceInstances(DatabaseType.class).stream().map(DatabaseType::getType).collect(Collectors.toList());
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private static final byte NULL_MARKER = 0;
+    
+    private static final byte VALUE_MARKER = 1;
+    
+    private static final byte ROW_SEPARATOR = '\n';
+    
+    @Override
+    protected int getDefaultChunkSize() {
+        return DEFAULT_CHUNK_SIZE;
+    }
+    
+    @Override
+    protected Optional<DataConsistencyCalculatedResult> calculateChunk(final DataConsistencyCalculateParameter param, final ResultSet resultSet,
+                                                                       final ColumnValueReader columnValueReader) throws SQLException {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        int recordsCount = 0;
+        Object minUniqueKeyValue = null;
+        Object maxUniqueKeyValue = null;
+        while (resultSet.next()) {
+            ShardingSpherePreconditions.checkState(!isCanceling(), () -> new PipelineTableDataConsistencyCheckLoadingFailedException(param.getSchemaName(), param.getLogicTableName()));
+            ResultSetMetaData resultSetMetaData = resultSet.getMetaData();
+            int columnCount = resultSetMetaData.getColumnCount();
+            for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+                putColumnValue(hasher, columnValueReader.readValue(resultSet, resultSetMetaData, columnIndex));
+            }
+            hasher.putByte(ROW_SEPARATOR);
+            maxUniqueKeyValue = columnValueReader.readValue(resultSet, resultSetMetaData, param.getUniqueKey().getOrdinalPosition());
+            if (0 == recordsCount++) {
+                minUniqueKeyValue = maxUniqueKeyValue;
+            }
+            if (isChunkBoundary(maxUniqueKeyValue)) {
+                break;
+            }
+        }
+        return 0 == recordsCount ? Optional.empty() : Optional.of(new ChunkChecksumCalculatedResult(minUniqueKeyValue, maxUniqueKeyValue, recordsCount, hasher.hash().asLong()));
+    }
+    
+    private boolean isChunkBoundary(final Object uniqueKeyValue) throws SQLException {
+        if (null == uniqueKeyValue) {
+            return false;
+        }
+        int hash = uniqueKeyValue instanceof byte[]
+                ? Hashing.murmur3_32().hashBytes((byte[]) uniqueKeyValue).asInt()
+                : Hashing.murmur3_32().hashString(toComparableString(uniqueKeyValue), StandardCharsets.UTF_8).asInt();
+        return 0 == Math.floorMod(hash, getChunkSize());
+    }
+    
+    private void putColumnValue(final Hasher hasher, final Object value) throws SQLException {
+        if (null == value) {
+            hasher.putByte(NULL_MARKER);
+            return;
+        }
+        hasher.putByte(VALUE_MARKER);
+        if (value instanceof byte[]) {
+            byte[] bytes = (byte[]) value;
+            hasher.putInt(bytes.length).putBytes(bytes);
+            return;
+        }
+        if (value instanceof Blob) {
+            byte[] bytes = ((Blob) value).getBytes(1L, (int) ((Blob) value).length());
+            hasher.putInt(bytes.length).putBytes(bytes);
+            return;
+        }
+        String text = toComparableString(value);
+        hasher.putInt(text.length()).putString(text, StandardCharsets.UTF_8);
+    }
+    
+    private String toComparableString(final Object value) throws SQLException {
+        if (value instanceof Float || value instanceof Double) {
+            double doubleValue = ((Number) value).doubleValue();
+            return Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) ? Double.toString(doubleValue) : toComparableString(new BigDecimal(value.toString()));
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            return 0 == decimal.signum() ? "0" : decimal.stripTrailingZeros().toPlainString();
+        }
+        if (value instanceof Number) {
+            return toComparableString(new BigDecimal(value.toString()));
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().toString();
+        }
+        if (value instanceof Date) {
+            return ((Date) value).toLocalDate().toString();
+        }
+        if (value instanceof Time) {
+            return ((Time) value).toLocalTime().toString();
+        }
+        if (value instanceof Clob) {
+            return ((Clob) value).getSubString(1L, (int) ((Clob) value).length());
+        }
+        if (value instanceof SQLXML) {
+            return ((SQLXML) value).getString();
+        }
+        if (value instanceof Array) {
+            return Arrays.deepToString(new Object[]{((Array) value).getArray()});
+        }
+        if (value.getClass().isArray()) {
+            return Arrays.deepToString(new Object[]{value});
+        }
+        return value.toString();
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_CHECKSUM";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck.result;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Chunk checksum calculated result.
+ */
+@RequiredArgsConstructor
+@Getter
+@Slf4j
+public final class ChunkChecksumCalculatedResult implements DataConsistencyCalculatedResult {
+    
+    private final Object minUniqueKeyValue;
+    
+    private final Object maxUniqueKeyValue;
+    
+    private final int recordsCount;
+    
+    private final long checksum;
+    
+    @Override
+    public Optional<Object> getMaxUniqueKeyValue() {
+        return Optional.of(maxUniqueKeyValue);
+    }
+    
+    @Override
+    public boolean equals(final Object o) {
+        if (null == o) {
+            return false;
+        }
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ChunkChecksumCalculatedResult)) {
+            log.warn("ChunkChecksumCalculatedResult type not match, o.className={}.", o.getClass().getName());
+            return false;
+        }
+        final ChunkChecksumCalculatedResult that = (ChunkChecksumCalculatedResult) o;
+        if (recordsCount != that.recordsCount || !Objects.equals(maxUniqueKeyValue, that.maxUniqueKeyValue) || checksum != that.checksum) {
+            log.warn("Chunk not match, unique key range=[{}, {}], recordCount1={}, recordCount2={}, maxUniqueKeyValue2={}, checksum1={}, checksum2={}.",
+                    minUniqueKeyValue, maxUniqueKeyValue, recordsCount, that.recordsCount, that.maxUniqueKeyValue, checksum, that.checksum);
+            return false;
+        }
+        return true;
+    }
+    
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder(17, 37).append(maxUniqueKeyValue).append(recordsCount).append(checksum).toHashCode();
+    }
+}
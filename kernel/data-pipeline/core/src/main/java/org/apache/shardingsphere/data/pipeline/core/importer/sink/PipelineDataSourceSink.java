@@ -23,6 +23,7 @@ import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
@@ -44,11 +45,20 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -69,17 +79,31 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private final JobRateLimitAlgorithm rateLimitAlgorithm;
     
-    private final AtomicReference<Statement> batchInsertStatement = new AtomicReference<>();
+    private final int writerCount;
     
-    private final AtomicReference<Statement> updateStatement = new AtomicReference<>();
+    private final ExecutorService writerExecutor;
     
-    private final AtomicReference<Statement> batchDeleteStatement = new AtomicReference<>();
+    private final Set<Statement> runningStatements = ConcurrentHashMap.newKeySet();
     
     public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager) {
+        this(importerConfig, dataSourceManager, null, 1);
+    }
+    
+    /**
+     * Create pipeline data source sink with writers.
+     *
+     * @param importerConfig importer configuration
+     * @param dataSourceManager pipeline data source manager
+     * @param writerExecutor writer executor, it is shared by sinks of the same job and not closed by sink
+     * @param writerCount writer count, which is the max partitions count of one batch
+     */
+    public PipelineDataSourceSink(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final ExecutorService writerExecutor, final int writerCount) {
         this.importerConfig = importerConfig;
         rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         this.dataSourceManager = dataSourceManager;
         pipelineSqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, importerConfig.getDataSourceConfig().getDatabaseType().getType());
+        this.writerCount = null == writerExecutor ? 1 : Math.max(writerCount, 1);
+        this.writerExecutor = this.writerCount > 1 ? writerExecutor : null;
     }
     
     @Override
@@ -89,14 +113,55 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public PipelineJobProgressUpdatedParameter write(final String ackId, final List<Record> records) {
-        return flush(dataSourceManager.getDataSource(importerConfig.getDataSourceConfig()), records);
-    }
-    
-    private PipelineJobProgressUpdatedParameter flush(final DataSource dataSource, final List<Record> buffer) {
-        List<DataRecord> dataRecords = buffer.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
+        List<DataRecord> dataRecords = records.stream().filter(DataRecord.class::isInstance).map(DataRecord.class::cast).collect(Collectors.toList());
         if (dataRecords.isEmpty()) {
             return new PipelineJobProgressUpdatedParameter(0);
         }
+        DataSource dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
+        if (null == writerExecutor || 1 == dataRecords.size() || dataRecords.stream().anyMatch(this::isUniqueKeyUpdated)) {
+            return flush(dataSource, dataRecords);
+        }
+        return parallelFlush(dataSource, partition(dataRecords));
+    }
+    
+    private boolean isUniqueKeyUpdated(final DataRecord dataRecord) {
+        return IngestDataChangeType.UPDATE.equals(dataRecord.getType())
+                && dataRecord.getOldUniqueKeyValues().stream().anyMatch(Objects::nonNull) && !dataRecord.getOldKey().equals(dataRecord.getKey());
+    }
+    
+    private Collection<List<DataRecord>> partition(final List<DataRecord> dataRecords) {
+        Map<Integer, List<DataRecord>> result = new LinkedHashMap<>(writerCount, 1F);
+        for (DataRecord each : dataRecords) {
+            Key key = IngestDataChangeType.DELETE.equals(each.getType()) ? each.getOldKey() : each.getKey();
+            result.computeIfAbsent(Math.floorMod(key.hashCode(), writerCount), unused -> new ArrayList<>()).add(each);
+        }
+        return result.values();
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private PipelineJobProgressUpdatedParameter parallelFlush(final DataSource dataSource, final Collection<List<DataRecord>> partitions) {
+        List<Future<PipelineJobProgressUpdatedParameter>> futures = new ArrayList<>(partitions.size());
+        for (List<DataRecord> each : partitions) {
+            futures.add(writerExecutor.submit(() -> flush(dataSource, each)));
+        }
+        int processedRecordsCount = 0;
+        RuntimeException failure = null;
+        for (Future<PipelineJobProgressUpdatedParameter> each : futures) {
+            try {
+                processedRecordsCount += each.get().getProcessedRecordsCount();
+            } catch (final ExecutionException ex) {
+                if (null == failure) {
+                    failure = ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineImporterJobWriteException(ex);
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+        return new PipelineJobProgressUpdatedParameter(processedRecordsCount);
+    }
+    
+    private PipelineJobProgressUpdatedParameter flush(final DataSource dataSource, final List<DataRecord> dataRecords) {
         int insertRecordNumber = 0;
         for (DataRecord each : dataRecords) {
             if (IngestDataChangeType.INSERT.equals(each.getType())) {
@@ -139,29 +204,36 @@ public final class PipelineDataSourceSink implements PipelineSink {
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            switch (buffer.get(0).getType()) {
+            String type = buffer.get(0).getType();
+            interceptRateLimit(type);
+            long startMillis = System.currentTimeMillis();
+            switch (type) {
                 case IngestDataChangeType.INSERT:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                    }
                     executeBatchInsert(connection, buffer);
                     break;
                 case IngestDataChangeType.UPDATE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                    }
-                    executeUpdate(connection, buffer);
+                    executeBatchUpdate(connection, buffer);
                     break;
                 case IngestDataChangeType.DELETE:
-                    if (null != rateLimitAlgorithm) {
-                        rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                    }
                     executeBatchDelete(connection, buffer);
                     break;
                 default:
                     break;
             }
             connection.commit();
+            feedbackRateLimit(type, System.currentTimeMillis() - startMillis);
+        }
+    }
+    
+    private void interceptRateLimit(final String type) {
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(JobOperationType.valueOf(type), 1);
+        }
+    }
+    
+    private void feedbackRateLimit(final String type, final long elapsedMillis) {
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.feedback(JobOperationType.valueOf(type), elapsedMillis);
         }
     }
     
@@ -177,44 +249,41 @@ public final class PipelineDataSourceSink implements PipelineSink {
     }
     
     private void doFlush(final Connection connection, final DataRecord dataRecord) throws SQLException {
-        switch (dataRecord.getType()) {
+        String type = dataRecord.getType();
+        interceptRateLimit(type);
+        long startMillis = System.currentTimeMillis();
+        switch (type) {
             case IngestDataChangeType.INSERT:
-                if (null != rateLimitAlgorithm) {
-                    rateLimitAlgorithm.intercept(JobOperationType.INSERT, 1);
-                }
                 executeBatchInsert(connection, Collections.singletonList(dataRecord));
                 break;
             case IngestDataChangeType.UPDATE:
-                if (null != rateLimitAlgorithm) {
-                    rateLimitAlgorithm.intercept(JobOperationType.UPDATE, 1);
-                }
                 executeUpdate(connection, dataRecord);
                 break;
             case IngestDataChangeType.DELETE:
-                if (null != rateLimitAlgorithm) {
-                    rateLimitAlgorithm.intercept(JobOperationType.DELETE, 1);
-                }
                 executeBatchDelete(connection, Collections.singletonList(dataRecord));
                 break;
             default:
         }
+        feedbackRateLimit(type, System.currentTimeMillis() - startMillis);
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         DataRecord dataRecord = dataRecords.get(0);
         String insertSql = pipelineSqlBuilder.buildInsertSQL(getSchemaName(dataRecord.getTableName()), dataRecord);
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertSql)) {
-            batchInsertStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                for (int i = 0; i < each.getColumnCount(); i++) {
-                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    for (int i = 0; i < each.getColumnCount(); i++) {
+                        preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                    }
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
+                preparedStatement.executeBatch();
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-            preparedStatement.executeBatch();
-        } finally {
-            batchInsertStatement.set(null);
         }
     }
     
@@ -222,9 +291,34 @@ public final class PipelineDataSourceSink implements PipelineSink {
         return getImporterConfig().getSchemaName(new LogicTableName(logicTableName));
     }
     
-    private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+    private void executeBatchUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, PreparedStatement> preparedStatements = new LinkedHashMap<>();
+        try {
+            for (DataRecord each : dataRecords) {
+                Set<String> shardingColumns = importerConfig.getShardingColumns(each.getTableName());
+                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, shardingColumns);
+                List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(each);
+                String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(each.getTableName()), each, conditionColumns);
+                PreparedStatement preparedStatement = preparedStatements.get(updateSql);
+                if (null == preparedStatement) {
+                    preparedStatement = connection.prepareStatement(updateSql);
+                    preparedStatements.put(updateSql, preparedStatement);
+                    runningStatements.add(preparedStatement);
+                }
+                setUpdateParameters(preparedStatement, shardingColumns, conditionColumns, updatedColumns);
+                preparedStatement.addBatch();
+            }
+            for (Entry<String, PreparedStatement> entry : preparedStatements.entrySet()) {
+                int[] counts = entry.getValue().executeBatch();
+                if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
+                    log.warn("batchUpdate failed, counts={}, sql={}", Arrays.toString(counts), entry.getKey());
+                }
+            }
+        } finally {
+            for (PreparedStatement each : preparedStatements.values()) {
+                runningStatements.remove(each);
+                each.close();
+            }
         }
     }
     
@@ -234,26 +328,33 @@ public final class PipelineDataSourceSink implements PipelineSink {
         List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(dataRecord);
         String updateSql = pipelineSqlBuilder.buildUpdateSQL(getSchemaName(dataRecord.getTableName()), dataRecord, conditionColumns);
         try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
-            updateStatement.set(preparedStatement);
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
-                if (shardingColumns.contains(keyColumn.getName()) && keyColumn.getOldValue() == null) {
-                    preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getValue());
-                    continue;
+            runningStatements.add(preparedStatement);
+            try {
+                setUpdateParameters(preparedStatement, shardingColumns, conditionColumns, updatedColumns);
+                // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
+                int updateCount = preparedStatement.executeUpdate();
+                if (1 != updateCount) {
+                    log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
                 }
-                preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getOldValue());
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-            // TODO if table without unique key the conditionColumns before values is null, so update will fail at PostgreSQL
-            int updateCount = preparedStatement.executeUpdate();
-            if (1 != updateCount) {
-                log.warn("executeUpdate failed, updateCount={}, updateSql={}, updatedColumns={}, conditionColumns={}", updateCount, updateSql, updatedColumns, conditionColumns);
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement preparedStatement, final Set<String> shardingColumns, final List<Column> conditionColumns,
+                                     final List<Column> updatedColumns) throws SQLException {
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            preparedStatement.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            // TODO There to be compatible with PostgreSQL before value is null except primary key and unsupported updating sharding value now.
+            if (shardingColumns.contains(keyColumn.getName()) && keyColumn.getOldValue() == null) {
+                preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getValue());
+                continue;
             }
-        } finally {
-            updateStatement.set(null);
+            preparedStatement.setObject(updatedColumns.size() + i + 1, keyColumn.getOldValue());
         }
     }
     
@@ -262,25 +363,27 @@ public final class PipelineDataSourceSink implements PipelineSink {
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(getSchemaName(dataRecord.getTableName()), dataRecord,
                 RecordUtils.extractConditionColumns(dataRecord, importerConfig.getShardingColumns(dataRecord.getTableName())));
         try (PreparedStatement preparedStatement = connection.prepareStatement(deleteSQL)) {
-            batchDeleteStatement.set(preparedStatement);
-            preparedStatement.setQueryTimeout(30);
-            for (DataRecord each : dataRecords) {
-                List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
-                for (int i = 0; i < conditionColumns.size(); i++) {
-                    Object oldValue = conditionColumns.get(i).getOldValue();
-                    if (null == oldValue) {
-                        log.warn("Record old value is null, record={}", each);
+            runningStatements.add(preparedStatement);
+            try {
+                preparedStatement.setQueryTimeout(30);
+                for (DataRecord each : dataRecords) {
+                    List<Column> conditionColumns = RecordUtils.extractConditionColumns(each, importerConfig.getShardingColumns(dataRecord.getTableName()));
+                    for (int i = 0; i < conditionColumns.size(); i++) {
+                        Object oldValue = conditionColumns.get(i).getOldValue();
+                        if (null == oldValue) {
+                            log.warn("Record old value is null, record={}", each);
+                        }
+                        preparedStatement.setObject(i + 1, oldValue);
                     }
-                    preparedStatement.setObject(i + 1, oldValue);
+                    preparedStatement.addBatch();
                 }
-                preparedStatement.addBatch();
-            }
-            int[] counts = preparedStatement.executeBatch();
-            if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
-                log.warn("batchDelete failed, counts={}, sql={}, dataRecords={}", Arrays.toString(counts), deleteSQL, dataRecords);
+                int[] counts = preparedStatement.executeBatch();
+                if (IntStream.of(counts).anyMatch(value -> 1 != value)) {
+                    log.warn("batchDelete failed, counts={}, sql={}, dataRecords={}", Arrays.toString(counts), deleteSQL, dataRecords);
+                }
+            } finally {
+                runningStatements.remove(preparedStatement);
             }
-        } finally {
-            batchDeleteStatement.set(null);
         }
     }
     
@@ -297,8 +400,8 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     @Override
     public void close() {
-        PipelineJdbcUtils.cancelStatement(batchInsertStatement.get());
-        PipelineJdbcUtils.cancelStatement(updateStatement.get());
-        PipelineJdbcUtils.cancelStatement(batchDeleteStatement.get());
+        for (Statement each : runningStatements) {
+            PipelineJdbcUtils.cancelStatement(each);
+        }
     }
 }
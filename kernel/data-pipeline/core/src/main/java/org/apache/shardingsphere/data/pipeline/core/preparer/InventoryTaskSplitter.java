@@ -52,6 +52,7 @@ import org.apache.shardingsphere.data.pipeline.util.spi.PipelineTypedSPILoader;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
@@ -169,16 +170,12 @@ public final class InventoryTaskSplitter {
         if (!dumperConfig.hasUniqueKey()) {
             return Collections.singletonList(new NoUniqueKeyPosition());
         }
-        List<PipelineColumnMetaData> uniqueKeyColumns = dumperConfig.getUniqueKeyColumns();
-        if (1 == uniqueKeyColumns.size()) {
-            int firstColumnDataType = uniqueKeyColumns.get(0).getDataType();
-            if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
-                return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
-            }
-            if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
-                // TODO Support string unique key table splitting. Ascii characters ordering are different in different versions of databases.
-                return Collections.singletonList(new StringPrimaryKeyPosition(null, null));
-            }
+        int firstColumnDataType = dumperConfig.getUniqueKeyColumns().get(0).getDataType();
+        if (PipelineJdbcUtils.isIntegerColumn(firstColumnDataType)) {
+            return getPositionByIntegerUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
+        }
+        if (PipelineJdbcUtils.isStringColumn(firstColumnDataType)) {
+            return getPositionByStringUniqueKeyRange(dumperConfig, tableRecordsCount, jobItemContext, dataSource);
         }
         return Collections.singletonList(new UnsupportedKeyPosition());
     }
@@ -201,6 +198,50 @@ public final class InventoryTaskSplitter {
         return result;
     }
     
+    private Collection<IngestPosition> getPositionByStringUniqueKeyRange(final InventoryDumperConfiguration dumperConfig, final long tableRecordsCount,
+                                                                         final InventoryIncrementalJobItemContext jobItemContext, final PipelineDataSourceWrapper dataSource) {
+        int shardingSize = jobItemContext.getJobProcessContext().getPipelineProcessConfig().getRead().getShardingSize();
+        if (tableRecordsCount <= shardingSize) {
+            return Collections.singletonList(new StringPrimaryKeyPosition(null, null));
+        }
+        Collection<IngestPosition> result = new LinkedList<>();
+        String schemaName = dumperConfig.getSchemaName(new LogicTableName(dumperConfig.getLogicTableName()));
+        String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
+        PipelineSQLBuilder sqlBuilder = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                PreparedStatement rangeEndStatement = connection.prepareStatement(sqlBuilder.buildUniqueKeyRangeEndSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey));
+                PreparedStatement nextStatement = connection.prepareStatement(sqlBuilder.buildNextUniqueKeySQL(schemaName, dumperConfig.getActualTableName(), uniqueKey))) {
+            String beginValue;
+            try (ResultSet resultSet = statement.executeQuery(sqlBuilder.buildUniqueKeyMinMaxValuesSQL(schemaName, dumperConfig.getActualTableName(), uniqueKey))) {
+                beginValue = resultSet.next() ? resultSet.getString(1) : null;
+            }
+            while (null != beginValue) {
+                rangeEndStatement.setString(1, beginValue);
+                rangeEndStatement.setInt(2, shardingSize - 1);
+                String endValue = querySingleValue(rangeEndStatement);
+                String nextBeginValue = null == endValue ? null : querySingleValue(nextStatement, endValue);
+                result.add(new StringPrimaryKeyPosition(beginValue, null == nextBeginValue ? null : endValue));
+                beginValue = nextBeginValue;
+            }
+        } catch (final SQLException ex) {
+            throw new SplitPipelineJobByUniqueKeyException(dumperConfig.getActualTableName(), uniqueKey, ex);
+        }
+        return result.isEmpty() ? Collections.singletonList(new StringPrimaryKeyPosition(null, null)) : result;
+    }
+    
+    private String querySingleValue(final PreparedStatement preparedStatement, final String value) throws SQLException {
+        preparedStatement.setString(1, value);
+        return querySingleValue(preparedStatement);
+    }
+    
+    private String querySingleValue(final PreparedStatement preparedStatement) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getString(1) : null;
+        }
+    }
+    
     private Range<Long> getUniqueKeyValuesRange(final InventoryIncrementalJobItemContext jobItemContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
         String uniqueKey = dumperConfig.getUniqueKeyColumns().get(0).getName();
         String sql = PipelineTypedSPILoader.getDatabaseTypedService(PipelineSQLBuilder.class, jobItemContext.getJobConfig().getSourceDatabaseType())
@@ -42,6 +42,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getWorkerThread(), is(20));
         assertThat(actual.getRead().getBatchSize(), is(1000));
         assertThat(actual.getRead().getShardingSize(), is(10000000));
+        assertThat(actual.getRead().getDecodeWorkerThread(), is(1));
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("500"));
@@ -77,7 +78,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
     
     @Test
     void assertSwapToYamlConfiguration() {
-        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000,
+        PipelineReadConfiguration readConfig = new PipelineReadConfiguration(40, 1000, 10000000, 2,
                 new AlgorithmConfiguration("INPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("qps", "50"))));
         PipelineWriteConfiguration writeConfig = new PipelineWriteConfiguration(40, 1000,
                 new AlgorithmConfiguration("OUTPUT", PropertiesBuilder.build(new Property("batch-size", "1000"), new Property("tps", "2000"))));
@@ -87,6 +88,7 @@ class YamlPipelineProcessConfigurationSwapperTest {
         assertThat(actual.getRead().getWorkerThread(), is(40));
         assertThat(actual.getRead().getBatchSize(), is(1000));
         assertThat(actual.getRead().getShardingSize(), is(10000000));
+        assertThat(actual.getRead().getDecodeWorkerThread(), is(2));
         assertThat(actual.getRead().getRateLimiter().getType(), is("INPUT"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("batch-size"), is("1000"));
         assertThat(actual.getRead().getRateLimiter().getProps().getProperty("qps"), is("50"));
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.channel.EmptyAckCallback;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.FinishedPosition;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BlockingMemoryPipelineChannelTest {
+    
+    @Test
+    void assertFetchRecordsTimeoutCorrectly() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, new EmptyAckCallback());
+        long startMills = System.currentTimeMillis();
+        assertTrue(channel.fetchRecords(1, 200, TimeUnit.MILLISECONDS).isEmpty());
+        assertTrue(System.currentTimeMillis() - startMills >= 200);
+    }
+    
+    @Test
+    void assertFetchRecordsWithoutWaitingWhenBatchSizeReached() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, new EmptyAckCallback());
+        channel.pushRecords(createRecords(2));
+        channel.pushRecords(createRecords(3));
+        long startMills = System.currentTimeMillis();
+        assertThat(channel.fetchRecords(5, 10, TimeUnit.SECONDS).size(), is(5));
+        assertTrue(System.currentTimeMillis() - startMills < 1000);
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    @Test
+    void assertFetchRecordsWokenUpByPush() {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(10, new EmptyAckCallback());
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(2, 10, TimeUnit.SECONDS));
+        channel.pushRecords(createRecords(2));
+        assertThat(future.join().size(), is(2));
+    }
+    
+    @Test
+    void assertPushRecordsBlockedUntilCapacityReleased() throws InterruptedException {
+        BlockingMemoryPipelineChannel channel = new BlockingMemoryPipelineChannel(2, new EmptyAckCallback());
+        channel.pushRecords(createRecords(2));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecords(createRecords(1)));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertFalse(future.isDone());
+        assertThat(channel.pollRecords().size(), is(2));
+        future.join();
+        assertThat(channel.peekRecords().size(), is(1));
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        Arrays.fill(result, new PlaceholderRecord(new FinishedPosition()));
+        return Arrays.asList(result);
+    }
+}
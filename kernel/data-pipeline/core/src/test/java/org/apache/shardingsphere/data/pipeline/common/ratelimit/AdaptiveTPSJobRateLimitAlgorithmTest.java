@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.common.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.ratelimit.JobRateLimitAlgorithmInitializationException;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AdaptiveTPSJobRateLimitAlgorithmTest {
+    
+    private final Properties props = PropertiesBuilder.build(new Property("min-tps", "10"), new Property("max-tps", "60"), new Property("latency-threshold-millis", "100"));
+    
+    @Test
+    void assertInit() {
+        JobRateLimitAlgorithm actual = TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE_TPS", props);
+        assertThat(actual, instanceOf(AdaptiveTPSJobRateLimitAlgorithm.class));
+        assertThat(actual.getRate(), is(10D));
+    }
+    
+    @Test
+    void assertInitWithMinGreaterThanMax() {
+        Properties props = PropertiesBuilder.build(new Property("min-tps", "100"), new Property("max-tps", "10"));
+        assertThrows(JobRateLimitAlgorithmInitializationException.class, () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE_TPS", props));
+    }
+    
+    @Test
+    void assertInitWithWrongArgument() {
+        Properties props = PropertiesBuilder.build(new Property("latency-threshold-millis", "0"));
+        assertThrows(JobRateLimitAlgorithmInitializationException.class, () -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE_TPS", props));
+    }
+    
+    @Test
+    void assertIntercept() {
+        assertDoesNotThrow(() -> TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE_TPS", props).intercept(JobOperationType.INSERT, 1));
+    }
+    
+    @Test
+    void assertFeedback() {
+        JobRateLimitAlgorithm algorithm = TypedSPILoader.getService(JobRateLimitAlgorithm.class, "ADAPTIVE_TPS", props);
+        algorithm.feedback(JobOperationType.INSERT, 10L);
+        assertThat(algorithm.getRate(), is(11D));
+        for (int i = 0; i < 100; i++) {
+            algorithm.feedback(JobOperationType.UPDATE, 10L);
+        }
+        assertThat(algorithm.getRate(), is(60D));
+        algorithm.feedback(JobOperationType.SELECT, 1000L);
+        assertThat(algorithm.getRate(), is(60D));
+        algorithm.feedback(JobOperationType.DELETE, 1000L);
+        assertThat(algorithm.getRate(), is(30D));
+        algorithm.feedback(JobOperationType.DELETE, 1000L);
+        assertThat(algorithm.getRate(), is(30D));
+    }
+}
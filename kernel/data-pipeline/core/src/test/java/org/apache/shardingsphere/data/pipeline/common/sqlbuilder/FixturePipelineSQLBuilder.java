@@ -83,6 +83,16 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildUniqueKeyRangeEndSQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
+    @Override
+    public String buildNextUniqueKeySQL(final String schemaName, final String tableName, final String uniqueKey) {
+        return "";
+    }
+    
     @Override
     public String buildQueryAllOrderingSQL(final String schemaName, final String tableName, final List<String> columnNames, final String uniqueKey, final boolean firstQuery) {
         return "";
@@ -60,6 +60,16 @@ class PipelineSQLBuilderTest {
         assertThat(actual, is("SELECT order_id,user_id,status FROM t_order ORDER BY order_id ASC"));
     }
     
+    @Test
+    void assertBuildUniqueKeyRangeEndSQL() {
+        assertThat(pipelineSQLBuilder.buildUniqueKeyRangeEndSQL(null, "t_order", "order_id"), is("SELECT order_id FROM t_order WHERE order_id>=? ORDER BY order_id ASC LIMIT 1 OFFSET ?"));
+    }
+    
+    @Test
+    void assertBuildNextUniqueKeySQL() {
+        assertThat(pipelineSQLBuilder.buildNextUniqueKeySQL(null, "t_order", "order_id"), is("SELECT MIN(order_id) FROM t_order WHERE order_id>?"));
+    }
+    
     @Test
     void assertBuildQueryAllOrderingSQLFirstQuery() {
         String actual = pipelineSQLBuilder.buildQueryAllOrderingSQL(null, "t_order", Collections.singletonList("*"), "order_id", true);
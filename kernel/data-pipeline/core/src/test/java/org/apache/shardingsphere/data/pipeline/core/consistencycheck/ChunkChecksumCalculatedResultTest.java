@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.consistencycheck;
+
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.ChunkChecksumCalculatedResult;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ChunkChecksumCalculatedResultTest {
+    
+    @Test
+    void assertEquals() {
+        assertThat(new ChunkChecksumCalculatedResult(1, 1000, 1000, 123L), is(new ChunkChecksumCalculatedResult(1, 1000, 1000, 123L)));
+    }
+    
+    @Test
+    void assertRecordsCountNotEquals() {
+        assertNotEquals(new ChunkChecksumCalculatedResult(1, 1000, 1000, 123L), new ChunkChecksumCalculatedResult(1, 1000, 999, 123L));
+    }
+    
+    @Test
+    void assertMaxUniqueKeyValueNotEquals() {
+        assertNotEquals(new ChunkChecksumCalculatedResult(1, 1000, 1000, 123L), new ChunkChecksumCalculatedResult(1, 1001, 1000, 123L));
+    }
+    
+    @Test
+    void assertChecksumNotEquals() {
+        assertNotEquals(new ChunkChecksumCalculatedResult(1, 1000, 1000, 123L), new ChunkChecksumCalculatedResult(1, 1000, 1000, 124L));
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumn
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineTableMetaData;
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.common.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogPosition;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
@@ -49,16 +50,27 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.column.value.MySQLDa
 import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.column.value.string.MySQLBinaryString;
 import org.apache.shardingsphere.infra.database.metadata.DataSourceMetaData;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 
 import java.io.Serializable;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * MySQL incremental dumper.
@@ -78,6 +90,12 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     
     private final String catalog;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new ConcurrentHashMap<>();
+    
+    private final AtomicLong decodeNanos = new AtomicLong();
+    
+    private final AtomicLong pushNanos = new AtomicLong();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         Preconditions.checkArgument(dumperConfig.getDataSourceConfig() instanceof StandardPipelineDataSourceConfiguration, "MySQLBinlogDumper only support StandardPipelineDataSourceConfiguration");
@@ -102,28 +120,84 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
     protected void runBlocking() {
         client.connect();
         client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
+        int decodeWorkerThread = dumperConfig.getDecodeWorkerThread();
+        try {
+            if (decodeWorkerThread <= 1) {
+                decodeSerially();
+            } else {
+                decodeConcurrently(decodeWorkerThread);
+            }
+        } finally {
+            log.info("incremental dump done, decodeWorkerThread={}, decodeMillis={}, pushMillis={}",
+                    decodeWorkerThread, TimeUnit.NANOSECONDS.toMillis(decodeNanos.get()), TimeUnit.NANOSECONDS.toMillis(pushNanos.get()));
+        }
+    }
+    
+    private void decodeSerially() {
+        while (isRunning()) {
+            List<AbstractBinlogEvent> events = client.poll();
+            if (!events.isEmpty()) {
+                pushRecords(handleEvents(events));
+            }
+        }
+    }
+    
+    private void decodeConcurrently(final int decodeWorkerThread) {
+        ExecutorService decodeExecutor = Executors.newFixedThreadPool(decodeWorkerThread, ExecutorThreadFactoryBuilder.build("pipeline-binlog-decoder-%d"));
+        try {
+            decodeConcurrently(decodeExecutor, decodeWorkerThread * 4);
+        } finally {
+            decodeExecutor.shutdownNow();
+        }
+    }
+    
+    private void decodeConcurrently(final ExecutorService decodeExecutor, final int maxPendingCount) {
+        Deque<Future<List<Record>>> pendingRecords = new ArrayDeque<>(maxPendingCount + 1);
         while (isRunning()) {
             List<AbstractBinlogEvent> events = client.poll();
             if (events.isEmpty()) {
+                pushCompletedRecords(pendingRecords, 0);
                 continue;
             }
-            handleEvents(events);
+            pendingRecords.add(decodeExecutor.submit(() -> handleEvents(events)));
+            pushCompletedRecords(pendingRecords, maxPendingCount);
         }
     }
     
-    private void handleEvents(final List<AbstractBinlogEvent> events) {
-        List<Record> dataRecords = new LinkedList<>();
+    private void pushCompletedRecords(final Deque<Future<List<Record>>> pendingRecords, final int maxPendingCount) {
+        while (!pendingRecords.isEmpty() && (pendingRecords.peekFirst().isDone() || pendingRecords.size() > maxPendingCount)) {
+            try {
+                pushRecords(pendingRecords.pollFirst().get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new PipelineInternalException(ex);
+            } catch (final ExecutionException ex) {
+                throw ex.getCause() instanceof RuntimeException ? (RuntimeException) ex.getCause() : new PipelineInternalException(ex.getCause());
+            }
+        }
+    }
+    
+    private List<Record> handleEvents(final List<AbstractBinlogEvent> events) {
+        long startNanos = System.nanoTime();
+        List<Record> result = new LinkedList<>();
         for (AbstractBinlogEvent each : events) {
             if (!(each instanceof AbstractRowsEvent)) {
-                dataRecords.add(createPlaceholderRecord(each));
+                result.add(createPlaceholderRecord(each));
                 continue;
             }
-            dataRecords.addAll(handleEvent(each));
+            result.addAll(handleEvent(each));
         }
-        if (dataRecords.isEmpty()) {
+        decodeNanos.addAndGet(System.nanoTime() - startNanos);
+        return result;
+    }
+    
+    private void pushRecords(final List<Record> records) {
+        if (records.isEmpty()) {
             return;
         }
-        channel.pushRecords(dataRecords);
+        long startNanos = System.nanoTime();
+        channel.pushRecords(records);
+        pushNanos.addAndGet(System.nanoTime() - startNanos);
     }
     
     private List<? extends Record> handleEvent(final AbstractBinlogEvent event) {
@@ -226,7 +300,7 @@ public final class MySQLIncrementalDumper extends AbstractLifecycleExecutor impl
             }
             return new String(((MySQLBinaryString) value).getBytes(), Charset.defaultCharset());
         }
-        Optional<MySQLDataTypeHandler> dataTypeHandler = TypedSPILoader.findService(MySQLDataTypeHandler.class, columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), key -> TypedSPILoader.findService(MySQLDataTypeHandler.class, key));
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
@@ -40,6 +40,7 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteR
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.client.MySQLClient;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -56,17 +57,26 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -84,13 +94,17 @@ class MySQLIncrementalDumperTest {
     
     private PipelineTableMetaData pipelineTableMetaData;
     
+    private PipelineTableMetaDataLoader metaDataLoader;
+    
+    private SimpleMemoryPipelineChannel channel;
+    
     @BeforeEach
     void setUp() {
         dumperConfig = mockDumperConfiguration();
         initTableData(dumperConfig);
         dumperConfig.setDataSourceConfig(new StandardPipelineDataSourceConfiguration("mock:mysql://127.0.0.1:3306/test", "root", "root"));
-        PipelineTableMetaDataLoader metaDataLoader = mock(PipelineTableMetaDataLoader.class);
-        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10000, new EmptyAckCallback());
+        metaDataLoader = mock(PipelineTableMetaDataLoader.class);
+        channel = new SimpleMemoryPipelineChannel(10000, new EmptyAckCallback());
         incrementalDumper = new MySQLIncrementalDumper(dumperConfig, new BinlogPosition("binlog-000001", 4L, 0L), channel, metaDataLoader);
         pipelineTableMetaData = new PipelineTableMetaData("t_order", mockOrderColumnsMetaDataMap(), Collections.emptyList());
         when(metaDataLoader.getTableMetaData(any(), any())).thenReturn(pipelineTableMetaData);
@@ -229,4 +243,83 @@ class MySQLIncrementalDumperTest {
         assertThat(actual.size(), is(1));
         assertThat(actual.get(0), instanceOf(DataRecord.class));
     }
+    
+    @Test
+    void assertRunWithSingleDecodeWorker() throws ReflectiveOperationException {
+        dumperConfig.setDecodeWorkerThread(1);
+        Collection<Thread> decodeThreads = new CopyOnWriteArrayList<>();
+        when(metaDataLoader.getTableMetaData(any(), any())).thenAnswer(invocation -> {
+            decodeThreads.add(Thread.currentThread());
+            return pipelineTableMetaData;
+        });
+        mockClientPoll(createWriteRowsEvents(3));
+        incrementalDumper.run();
+        assertThat(getPushedPositions(), is(Arrays.asList(1L, 2L, 3L)));
+        assertThat(decodeThreads.size(), is(3));
+        assertTrue(decodeThreads.stream().allMatch(each -> Thread.currentThread() == each));
+    }
+    
+    @Test
+    void assertRunWithMultipleDecodeWorkersKeepsEventsOrder() throws ReflectiveOperationException {
+        dumperConfig.setDecodeWorkerThread(4);
+        int eventCount = 4;
+        CountDownLatch laterDecodedLatch = new CountDownLatch(eventCount - 1);
+        AtomicBoolean firstDecoding = new AtomicBoolean(true);
+        when(metaDataLoader.getTableMetaData(any(), any())).thenAnswer(invocation -> {
+            if (firstDecoding.compareAndSet(true, false)) {
+                assertTrue(laterDecodedLatch.await(10L, TimeUnit.SECONDS));
+            } else {
+                laterDecodedLatch.countDown();
+            }
+            return pipelineTableMetaData;
+        });
+        mockClientPoll(createWriteRowsEvents(eventCount));
+        incrementalDumper.run();
+        assertThat(getPushedPositions(), is(Arrays.asList(1L, 2L, 3L, 4L)));
+    }
+    
+    @Test
+    void assertRunWithMultipleDecodeWorkersFailed() throws ReflectiveOperationException {
+        dumperConfig.setDecodeWorkerThread(4);
+        IllegalStateException expected = new IllegalStateException("decode failed");
+        when(metaDataLoader.getTableMetaData(any(), any())).thenThrow(expected);
+        mockClientPoll(createWriteRowsEvents(2));
+        assertThat(assertThrows(IllegalStateException.class, () -> incrementalDumper.run()), is(expected));
+        assertTrue(channel.pollRecords().isEmpty());
+    }
+    
+    private List<AbstractBinlogEvent> createWriteRowsEvents(final int count) {
+        List<AbstractBinlogEvent> result = new LinkedList<>();
+        for (int i = 1; i <= count; i++) {
+            WriteRowsEvent rowsEvent = new WriteRowsEvent();
+            rowsEvent.setFileName("binlog-000001");
+            rowsEvent.setPosition(i);
+            rowsEvent.setDatabaseName("test");
+            rowsEvent.setTableName("t_order");
+            rowsEvent.setAfterRows(Collections.singletonList(new Serializable[]{100 + i, 1, "OK"}));
+            result.add(rowsEvent);
+        }
+        return result;
+    }
+    
+    private void mockClientPoll(final List<AbstractBinlogEvent> events) throws ReflectiveOperationException {
+        MySQLClient client = mock(MySQLClient.class);
+        Iterator<AbstractBinlogEvent> eventIterator = events.iterator();
+        when(client.poll()).thenAnswer(invocation -> {
+            if (eventIterator.hasNext()) {
+                return Collections.singletonList(eventIterator.next());
+            }
+            incrementalDumper.stop();
+            return Collections.emptyList();
+        });
+        Plugins.getMemberAccessor().set(MySQLIncrementalDumper.class.getDeclaredField("client"), incrementalDumper, client);
+    }
+    
+    private List<Long> getPushedPositions() {
+        List<Long> result = new LinkedList<>();
+        for (List<Record> records = channel.pollRecords(); !records.isEmpty(); records = channel.pollRecords()) {
+            records.forEach(each -> result.add(((BinlogPosition) each.getPosition()).getPosition()));
+        }
+        return result;
+    }
 }
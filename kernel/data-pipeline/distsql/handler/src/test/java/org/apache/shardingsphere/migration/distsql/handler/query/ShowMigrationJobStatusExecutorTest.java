@@ -32,7 +32,7 @@ class ShowMigrationJobStatusExecutorTest {
     @Test
     void assertGetColumnNames() {
         Collection<String> columns = executor.getColumnNames();
-        assertThat(columns.size(), is(9));
+        assertThat(columns.size(), is(10));
         Iterator<String> iterator = columns.iterator();
         assertThat(iterator.next(), is("item"));
         assertThat(iterator.next(), is("data_source"));
@@ -42,6 +42,7 @@ class ShowMigrationJobStatusExecutorTest {
         assertThat(iterator.next(), is("processed_records_count"));
         assertThat(iterator.next(), is("inventory_finished_percentage"));
         assertThat(iterator.next(), is("incremental_idle_seconds"));
+        assertThat(iterator.next(), is("write_rate_limit"));
         assertThat(iterator.next(), is("error_message"));
     }
 }
@@ -93,7 +93,7 @@ public final class CDCClient {
                         channel.pipeline().addLast(new ProtobufDecoder(CDCResponse.getDefaultInstance()));
                         channel.pipeline().addLast(new ProtobufVarint32LengthFieldPrepender());
                         channel.pipeline().addLast(new ProtobufEncoder());
-                        channel.pipeline().addLast(new LoginRequestHandler(parameter.getUsername(), parameter.getPassword()));
+                        channel.pipeline().addLast(new LoginRequestHandler(parameter.getUsername(), parameter.getPassword(), parameter.getCompression()));
                         channel.pipeline().addLast(new CDCRequestHandler(parameter, consumer));
                     }
                 });
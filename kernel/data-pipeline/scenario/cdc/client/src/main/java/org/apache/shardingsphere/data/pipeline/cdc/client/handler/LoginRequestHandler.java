@@ -20,6 +20,11 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.handler;
 import com.google.common.hash.Hashing;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.cdc.client.constant.ClientConnectionStatus;
@@ -30,6 +35,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.LoginType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
@@ -46,6 +52,8 @@ public final class LoginRequestHandler extends ChannelInboundHandlerAdapter {
     
     private final String password;
     
+    private final CompressionType compression;
+    
     @Override
     public void channelActive(final ChannelHandlerContext ctx) {
         ClientConnectionContext context = new ClientConnectionContext();
@@ -81,7 +89,7 @@ public final class LoginRequestHandler extends ChannelInboundHandlerAdapter {
         log.info("Server greeting result, server version: {}, protocol version: {}", serverGreetingResult.getServerVersion(), serverGreetingResult.getProtocolVersion());
         String encryptPassword = Hashing.sha256().hashBytes(password.getBytes()).toString().toUpperCase();
         LoginRequestBody loginRequestBody = LoginRequestBody.newBuilder().setType(LoginType.BASIC).setBasicBody(BasicBody.newBuilder().setUsername(username).setPassword(encryptPassword).build())
-                .build();
+                .setCompression(CompressionType.UNRECOGNIZED == compression ? CompressionType.NONE : compression).build();
         String loginRequestId = RequestIdUtils.generateRequestId();
         CDCRequest data = CDCRequest.newBuilder().setType(Type.LOGIN).setVersion(1).setRequestId(loginRequestId).setLoginRequestBody(loginRequestBody).build();
         ctx.writeAndFlush(data);
@@ -92,12 +100,28 @@ public final class LoginRequestHandler extends ChannelInboundHandlerAdapter {
         if (response.getStatus() == Status.SUCCEED) {
             log.info("Login success, username {}", username);
             connectionContext.setStatus(ClientConnectionStatus.LOGGING_IN);
+            enableCompression(ctx.pipeline(), response.getLoginResult().getCompression());
             ctx.fireUserEventTriggered(new StreamDataEvent());
         } else {
             log.error("Login failed, username: {}, error message: {}", username, response.getErrorMessage());
         }
     }
     
+    private void enableCompression(final ChannelPipeline pipeline, final CompressionType compression) {
+        switch (compression) {
+            case ZLIB:
+                pipeline.addFirst(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB));
+                pipeline.addFirst(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.ZLIB));
+                break;
+            case SNAPPY:
+                pipeline.addFirst(new SnappyFrameEncoder());
+                pipeline.addFirst(new SnappyFrameDecoder());
+                break;
+            default:
+                break;
+        }
+    }
+    
     @Override
     public void exceptionCaught(final ChannelHandlerContext ctx, final Throwable cause) {
         log.error("login handler error", cause);
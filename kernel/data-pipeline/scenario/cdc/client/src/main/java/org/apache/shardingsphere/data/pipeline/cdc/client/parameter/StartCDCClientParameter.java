@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.cdc.client.parameter;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.Setter;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody.SchemaTable;
 
 import java.util.List;
@@ -45,4 +46,6 @@ public final class StartCDCClientParameter {
     private List<SchemaTable> schemaTables;
     
     private boolean full;
+    
+    private CompressionType compression = CompressionType.NONE;
 }
@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.DataRecordResult;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.StreamDataResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
@@ -66,6 +67,9 @@ public final class CDCResponseUtils {
             case STREAM_DATA_RESULT:
                 result.setStreamDataResult((StreamDataResult) response);
                 break;
+            case LOGIN_RESULT:
+                result.setLoginResult((LoginResult) response);
+                break;
             case RESPONSE_NOT_SET:
                 break;
             default:
@@ -126,7 +126,8 @@ public final class MigrationJobItemContext implements InventoryIncrementalJobIte
     
     @Override
     public PipelineSink getSink() {
-        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager);
+        return new PipelineDataSourceSink(taskConfig.getImporterConfig(), dataSourceManager,
+                jobProcessContext.getSinkWriterExecutor(), jobProcessContext.getPipelineProcessConfig().getWrite().getWorkerThread());
     }
     
     /**
@@ -29,7 +29,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereView;
 import org.apache.shardingsphere.sqlfederation.compiler.metadata.util.SQLFederationDataTypeUtils;
-import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatistic;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatisticUtils;
 
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -56,8 +56,7 @@ public final class SQLFederationSchema extends AbstractSchema {
             if (schema.containsView(each.getName())) {
                 result.put(each.getName().toLowerCase(), getViewTable(schema, each, protocolType, javaTypeFactory));
             } else {
-                // TODO implement table statistic logic after using custom operators
-                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, new SQLFederationStatistic(), protocolType));
+                result.put(each.getName().toLowerCase(), new SQLFederationTable(each, SQLFederationStatisticUtils.createStatistic(each), protocolType));
             }
         }
         return result;
@@ -32,7 +32,6 @@ import org.apache.calcite.rel.type.RelDataTypeFactory;
 import org.apache.calcite.schema.QueryableTable;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.schema.Schemas;
-import org.apache.calcite.schema.Statistic;
 import org.apache.calcite.schema.TranslatableTable;
 import org.apache.calcite.schema.impl.AbstractTable;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
@@ -150,7 +149,7 @@ public final class SQLFederationTable extends AbstractTable implements Queryable
     }
     
     @Override
-    public Statistic getStatistic() {
+    public SQLFederationStatistic getStatistic() {
         return statistic;
     }
     
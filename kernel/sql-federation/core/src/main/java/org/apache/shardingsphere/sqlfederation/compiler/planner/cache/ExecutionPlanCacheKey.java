@@ -30,7 +30,7 @@ import java.util.Map;
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions"})
+@EqualsAndHashCode(of = {"sql", "tableMetaDataVersions", "tableRowCountMagnitudes"})
 public final class ExecutionPlanCacheKey {
     
     // TODO replace sql with parameterized sql
@@ -39,4 +39,7 @@ public final class ExecutionPlanCacheKey {
     private final SQLStatement sqlStatement;
     
     private final Map<String, Integer> tableMetaDataVersions = new LinkedHashMap<>();
+    
+    // binary exponent of table row count, cached plan is recompiled after it changes
+    private final Map<String, Integer> tableRowCountMagnitudes = new LinkedHashMap<>();
 }
@@ -17,11 +17,14 @@
 
 package org.apache.shardingsphere.sqlfederation.compiler.statistic;
 
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelDistribution;
 import org.apache.calcite.rel.RelDistributionTraitDef;
 import org.apache.calcite.rel.RelReferentialConstraint;
 import org.apache.calcite.schema.Statistic;
+import org.apache.calcite.util.ImmutableBitSet;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,8 +32,34 @@ import java.util.List;
 /**
  * SQL federation statistic.
  */
+@RequiredArgsConstructor
 public final class SQLFederationStatistic implements Statistic {
     
+    private final List<ImmutableBitSet> keys;
+    
+    @Setter
+    private volatile Double rowCount;
+    
+    @Override
+    public Double getRowCount() {
+        return rowCount;
+    }
+    
+    @Override
+    public boolean isKey(final ImmutableBitSet columns) {
+        for (ImmutableBitSet each : keys) {
+            if (columns.contains(each)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    @Override
+    public List<ImmutableBitSet> getKeys() {
+        return keys;
+    }
+    
     @Override
     public List<RelReferentialConstraint> getReferentialConstraints() {
         return new ArrayList<>();
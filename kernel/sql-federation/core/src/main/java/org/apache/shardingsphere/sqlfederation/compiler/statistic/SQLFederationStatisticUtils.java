@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL federation statistic utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFederationStatisticUtils {
+    
+    private static final String SHARDING_SPHERE_SCHEMA = "shardingsphere";
+    
+    private static final String SHARDING_TABLE_STATISTICS = "sharding_table_statistics";
+    
+    private static final int LOGIC_DATABASE_NAME_INDEX = 1;
+    
+    private static final int LOGIC_TABLE_NAME_INDEX = 2;
+    
+    private static final int ROW_COUNT_INDEX = 5;
+    
+    /**
+     * Create SQL federation statistic with primary key of table.
+     *
+     * @param table ShardingSphere table
+     * @return created SQL federation statistic
+     */
+    public static SQLFederationStatistic createStatistic(final ShardingSphereTable table) {
+        ImmutableBitSet.Builder primaryKey = ImmutableBitSet.builder();
+        int index = 0;
+        for (ShardingSphereColumn each : table.getColumnValues()) {
+            if (each.isPrimaryKey()) {
+                primaryKey.set(index);
+            }
+            index++;
+        }
+        return new SQLFederationStatistic(primaryKey.isEmpty() ? Collections.emptyList() : Collections.singletonList(primaryKey.build()));
+    }
+    
+    /**
+     * Judge whether table is the statistics table which row counts are aggregated from.
+     *
+     * @param schemaName schema name
+     * @param tableName table name
+     * @return is row count statistics table or not
+     */
+    public static boolean isRowCountStatisticsTable(final String schemaName, final String tableName) {
+        return SHARDING_SPHERE_SCHEMA.equalsIgnoreCase(schemaName) && SHARDING_TABLE_STATISTICS.equalsIgnoreCase(tableName);
+    }
+    
+    /**
+     * Get row counts of logic tables, which are aggregated from data nodes collected in sharding table statistics.
+     * 
+     * <p>Logic table is counted in every schema of its logic database which contains it. Returned maps are unmodifiable.</p>
+     *
+     * @param metaData ShardingSphere meta data
+     * @param statistics ShardingSphere statistics
+     * @return row counts of logic tables, key is lower case logic database name, value is row counts of schemas which key is lower case schema name and value is row counts map
+     *         which key is lower case logic table name
+     */
+    public static Map<String, Map<String, Map<String, Double>>> getRowCounts(final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        Map<String, Map<String, Map<String, Double>>> result = new HashMap<>();
+        for (ShardingSphereDatabaseData each : statistics.getDatabaseData().values()) {
+            ShardingSphereSchemaData schemaData = each.getSchema(SHARDING_SPHERE_SCHEMA);
+            ShardingSphereTableData tableData = null == schemaData ? null : schemaData.getTable(SHARDING_TABLE_STATISTICS);
+            if (null != tableData) {
+                accumulateRowCounts(metaData, tableData, result);
+            }
+        }
+        for (Entry<String, Map<String, Map<String, Double>>> entry : result.entrySet()) {
+            entry.getValue().replaceAll((schemaName, tableRowCounts) -> Collections.unmodifiableMap(tableRowCounts));
+            entry.setValue(Collections.unmodifiableMap(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+    
+    private static void accumulateRowCounts(final ShardingSphereMetaData metaData, final ShardingSphereTableData tableData, final Map<String, Map<String, Map<String, Double>>> rowCounts) {
+        for (ShardingSphereRowData each : tableData.getRows()) {
+            List<Object> row = each.getRows();
+            String databaseName = String.valueOf(row.get(LOGIC_DATABASE_NAME_INDEX));
+            if (row.size() <= ROW_COUNT_INDEX || !metaData.containsDatabase(databaseName)) {
+                continue;
+            }
+            String tableName = String.valueOf(row.get(LOGIC_TABLE_NAME_INDEX)).toLowerCase();
+            double rowCount = getRowCount(row.get(ROW_COUNT_INDEX));
+            ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+            for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+                if (entry.getValue().containsTable(tableName)) {
+                    rowCounts.computeIfAbsent(databaseName.toLowerCase(), unused -> new HashMap<>()).computeIfAbsent(entry.getKey().toLowerCase(), unused -> new HashMap<>())
+                            .merge(tableName, rowCount, Double::sum);
+                }
+            }
+        }
+    }
+    
+    private static double getRowCount(final Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        return null == value ? 0D : new BigDecimal(value.toString()).doubleValue();
+    }
+}
@@ -171,12 +171,14 @@ public final class SQLFederationEngine implements AutoCloseable {
         OptimizerPlannerContext plannerContext = sqlFederationRule.getOptimizerContext().getPlannerContext(databaseName);
         Schema sqlFederationSchema = plannerContext.getValidator(schemaName).getCatalogReader().getRootSchema().plus().getSubSchema(schemaName);
         registerTableScanExecutor(sqlFederationSchema, prepareEngine, callback, federationContext, sqlFederationRule.getOptimizerContext());
+        Map<String, Double> rowCounts = sqlFederationRule.getRowCounts(databaseName, schemaName);
+        refreshTableStatistics(sqlFederationSchema, rowCounts, selectStatementContext.getTablesContext().getTableNames());
         SQLFederationCompilerEngine compilerEngine = new SQLFederationCompilerEngine(schemaName, new SQLStatementCompiler(plannerContext.getConverter(schemaName), plannerContext.getHepPlanner()),
                 sqlFederationRule.getConfiguration().getExecutionPlanCache());
-        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext), federationContext.getQueryContext().isUseCache());
+        return compilerEngine.compile(buildCacheKey(federationContext, selectStatementContext, rowCounts), federationContext.getQueryContext().isUseCache());
     }
     
-    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationExecutorContext federationContext, final SelectStatementContext selectStatementContext) {
+    private ExecutionPlanCacheKey buildCacheKey(final SQLFederationExecutorContext federationContext, final SelectStatementContext selectStatementContext, final Map<String, Double> rowCounts) {
         ShardingSphereSchema schema = federationContext.getMetaData().getDatabase(databaseName).getSchema(schemaName);
         ExecutionPlanCacheKey result = new ExecutionPlanCacheKey(federationContext.getQueryContext().getSql(), selectStatementContext.getSqlStatement());
         for (String each : selectStatementContext.getTablesContext().getTableNames()) {
@@ -184,6 +186,10 @@ public final class SQLFederationEngine implements AutoCloseable {
             ShardingSpherePreconditions.checkState(null != table, () -> new NoSuchTableException(each));
             // TODO replace DEFAULT_METADATA_VERSION with actual version in ShardingSphereTable
             result.getTableMetaDataVersions().put(table.getName(), DEFAULT_METADATA_VERSION);
+            Double rowCount = rowCounts.get(table.getName().toLowerCase());
+            if (null != rowCount) {
+                result.getTableRowCountMagnitudes().put(table.getName(), Math.getExponent(rowCount));
+            }
         }
         return result;
     }
@@ -206,6 +212,19 @@ public final class SQLFederationEngine implements AutoCloseable {
         }
     }
     
+    private void refreshTableStatistics(final Schema sqlFederationSchema, final Map<String, Double> rowCounts, final Collection<String> tableNames) {
+        if (null == sqlFederationSchema || rowCounts.isEmpty()) {
+            return;
+        }
+        for (String each : tableNames) {
+            Table table = sqlFederationSchema.getTable(each.toLowerCase());
+            Double rowCount = rowCounts.get(each.toLowerCase());
+            if (table instanceof SQLFederationTable && null != rowCount && !rowCount.equals(((SQLFederationTable) table).getStatistic().getRowCount())) {
+                ((SQLFederationTable) table).getStatistic().setRowCount(rowCount);
+            }
+        }
+    }
+    
     private Map<String, Object> createParameters(final List<Object> params) {
         Map<String, Object> result = new HashMap<>(params.size(), 1F);
         int index = 0;
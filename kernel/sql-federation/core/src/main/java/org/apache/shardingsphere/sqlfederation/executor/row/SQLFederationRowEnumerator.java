@@ -83,6 +83,7 @@ public final class SQLFederationRowEnumerator<T> implements Enumerator<T> {
     @Override
     public void close() {
         try {
+            queryResult.close();
             for (Statement each : statements) {
                 each.close();
             }
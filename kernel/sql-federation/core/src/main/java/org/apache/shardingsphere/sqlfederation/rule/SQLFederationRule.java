@@ -19,9 +19,12 @@ package org.apache.shardingsphere.sqlfederation.rule;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
 import org.apache.shardingsphere.infra.rule.identifier.scope.GlobalRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.StatisticsHeldRule;
 import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
 import org.apache.shardingsphere.sqlfederation.compiler.context.OptimizerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.OptimizerContextFactory;
@@ -29,19 +32,24 @@ import org.apache.shardingsphere.sqlfederation.compiler.context.parser.Optimizer
 import org.apache.shardingsphere.sqlfederation.compiler.context.parser.OptimizerParserContextFactory;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContext;
 import org.apache.shardingsphere.sqlfederation.compiler.context.planner.OptimizerPlannerContextFactory;
+import org.apache.shardingsphere.sqlfederation.compiler.statistic.SQLFederationStatisticUtils;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
  * SQL federation rule.
  */
-@Getter
-public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
+public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule, StatisticsHeldRule {
     
+    @Getter
     private final SQLFederationRuleConfiguration configuration;
     
+    @Getter
     private final OptimizerContext optimizerContext;
     
+    private volatile Map<String, Map<String, Map<String, Double>>> rowCounts = Collections.emptyMap();
+    
     public SQLFederationRule(final SQLFederationRuleConfiguration ruleConfig, final Map<String, ShardingSphereDatabase> databases, final ConfigurationProperties props) {
         configuration = ruleConfig;
         optimizerContext = OptimizerContextFactory.create(databases, props);
@@ -61,6 +69,31 @@ public final class SQLFederationRule implements GlobalRule, MetaDataHeldRule {
         optimizerContext.removePlannerContext(databaseName);
     }
     
+    @Override
+    public void refreshStatistics(final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics) {
+        rowCounts = SQLFederationStatisticUtils.getRowCounts(metaData, statistics);
+    }
+    
+    @Override
+    public void alterStatistics(final ShardingSphereMetaData metaData, final ShardingSphereStatistics statistics, final String databaseName, final String schemaName, final String tableName) {
+        if (SQLFederationStatisticUtils.isRowCountStatisticsTable(schemaName, tableName)) {
+            refreshStatistics(metaData, statistics);
+        }
+    }
+    
+    /**
+     * Get row counts of logic tables.
+     * 
+     * <p>Row counts are an immutable snapshot, which is replaced as a whole when statistics are refreshed or altered.</p>
+     *
+     * @param databaseName database name
+     * @param schemaName schema name
+     * @return row counts of logic tables, key is lower case logic table name
+     */
+    public Map<String, Double> getRowCounts(final String databaseName, final String schemaName) {
+        return rowCounts.getOrDefault(databaseName.toLowerCase(), Collections.emptyMap()).getOrDefault(schemaName.toLowerCase(), Collections.emptyMap());
+    }
+    
     @Override
     public String getType() {
         return SQLFederationRule.class.getSimpleName();
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.compiler.statistic;
+
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationStatisticUtilsTest {
+    
+    @Test
+    void assertCreateStatistic() {
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false);
+        ShardingSphereColumn orderIdColumn = new ShardingSphereColumn("order_id", Types.INTEGER, true, false, false, true, false);
+        SQLFederationStatistic actual = SQLFederationStatisticUtils.createStatistic(
+                new ShardingSphereTable("t_order", Arrays.asList(userIdColumn, orderIdColumn), Collections.emptyList(), Collections.emptyList()));
+        assertThat(actual.getKeys(), is(Collections.singletonList(ImmutableBitSet.of(1))));
+        assertTrue(actual.isKey(ImmutableBitSet.of(0, 1)));
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+        assertThat(actual.getRowCount(), nullValue());
+    }
+    
+    @Test
+    void assertCreateStatisticWithoutPrimaryKey() {
+        ShardingSphereColumn userIdColumn = new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false);
+        SQLFederationStatistic actual = SQLFederationStatisticUtils.createStatistic(
+                new ShardingSphereTable("t_order", Collections.singletonList(userIdColumn), Collections.emptyList(), Collections.emptyList()));
+        assertTrue(actual.getKeys().isEmpty());
+        assertFalse(actual.isKey(ImmutableBitSet.of(0)));
+    }
+    
+    @Test
+    void assertGetRowCounts() {
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "T_ORDER", "ds_1", "t_order_1", "50", BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(3, "foo_db", "t_order_item", "ds_0", "t_order_item_0", new BigDecimal("10"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(4, "bar_db", "t_order", "ds_0", "t_order_0", new BigDecimal("1000"), BigDecimal.ZERO)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(5, "baz_db", "t_order", "ds_0", "t_order_0", new BigDecimal("1000"), BigDecimal.ZERO)));
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics statistics = new ShardingSphereStatistics();
+        statistics.putDatabase("shardingsphere", databaseData);
+        Map<String, Map<String, Map<String, Double>>> actual = SQLFederationStatisticUtils.getRowCounts(createMetaData(), statistics);
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("foo_db").size(), is(2));
+        assertThat(actual.get("foo_db").get("foo_schema").size(), is(2));
+        assertThat(actual.get("foo_db").get("foo_schema").get("t_order"), is(150D));
+        assertThat(actual.get("foo_db").get("foo_schema").get("t_order_item"), is(10D));
+        assertThat(actual.get("foo_db").get("bar_schema"), is(Collections.singletonMap("t_order_item", 10D)));
+        assertThat(actual.get("bar_db").get("bar_schema").get("t_order"), is(1000D));
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        ShardingSphereTable orderTable = new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        ShardingSphereTable orderItemTable = new ShardingSphereTable("t_order_item", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        Map<String, ShardingSphereTable> fooTables = new HashMap<>(2, 1F);
+        fooTables.put("t_order", orderTable);
+        fooTables.put("t_order_item", orderItemTable);
+        Map<String, ShardingSphereSchema> fooSchemas = new HashMap<>(2, 1F);
+        fooSchemas.put("foo_schema", new ShardingSphereSchema(fooTables, Collections.emptyMap()));
+        fooSchemas.put("bar_schema", new ShardingSphereSchema(Collections.singletonMap("t_order_item", orderItemTable), Collections.emptyMap()));
+        Map<String, ShardingSphereDatabase> databases = new HashMap<>(2, 1F);
+        databases.put("foo_db", mockDatabase(fooSchemas));
+        databases.put("bar_db", mockDatabase(Collections.singletonMap("bar_schema", new ShardingSphereSchema(Collections.singletonMap("t_order", orderTable), Collections.emptyMap()))));
+        return new ShardingSphereMetaData(databases, mock(ShardingSphereResourceMetaData.class), mock(ShardingSphereRuleMetaData.class), new ConfigurationProperties(new Properties()));
+    }
+    
+    private ShardingSphereDatabase mockDatabase(final Map<String, ShardingSphereSchema> schemas) {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class);
+        when(result.getSchemas()).thenReturn(schemas);
+        return result;
+    }
+    
+    @Test
+    void assertIsRowCountStatisticsTable() {
+        assertTrue(SQLFederationStatisticUtils.isRowCountStatisticsTable("ShardingSphere", "SHARDING_TABLE_STATISTICS"));
+        assertFalse(SQLFederationStatisticUtils.isRowCountStatisticsTable("shardingsphere", "cluster_information"));
+    }
+}
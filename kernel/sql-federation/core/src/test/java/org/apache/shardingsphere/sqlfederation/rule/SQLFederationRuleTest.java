@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sqlfederation.rule;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereDatabaseData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereRowData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaData;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereStatistics;
+import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sqlfederation.api.config.SQLFederationRuleConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLFederationRuleTest {
+    
+    @Test
+    void assertGetRowCountsAfterStatisticsAltered() {
+        SQLFederationRule rule = new SQLFederationRule(new SQLFederationRuleConfiguration(false, new CacheOption(1, 1L)), Collections.emptyMap(), new ConfigurationProperties(new Properties()));
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        ShardingSphereStatistics statistics = createStatistics(tableData);
+        ShardingSphereMetaData metaData = createMetaData();
+        assertThat(rule.getRowCounts("foo_db", "foo_schema"), is(Collections.emptyMap()));
+        rule.refreshStatistics(metaData, statistics);
+        assertThat(rule.getRowCounts("FOO_DB", "FOO_SCHEMA"), is(Collections.singletonMap("t_order", 100D)));
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(2, "foo_db", "t_order", "ds_1", "t_order_1", new BigDecimal("50"), BigDecimal.ZERO)));
+        assertThat(rule.getRowCounts("foo_db", "foo_schema"), is(Collections.singletonMap("t_order", 100D)));
+        rule.alterStatistics(metaData, statistics, "shardingsphere", "shardingsphere", "cluster_information");
+        assertThat(rule.getRowCounts("foo_db", "foo_schema"), is(Collections.singletonMap("t_order", 100D)));
+        rule.alterStatistics(metaData, statistics, "shardingsphere", "shardingsphere", "sharding_table_statistics");
+        assertThat(rule.getRowCounts("foo_db", "foo_schema"), is(Collections.singletonMap("t_order", 150D)));
+        assertThat(rule.getRowCounts("foo_db", "bar_schema"), is(Collections.emptyMap()));
+        assertThat(rule.getRowCounts("bar_db", "foo_schema"), is(Collections.emptyMap()));
+    }
+    
+    @Test
+    void assertGetRowCountsIsImmutableSnapshot() {
+        SQLFederationRule rule = new SQLFederationRule(new SQLFederationRuleConfiguration(false, new CacheOption(1, 1L)), Collections.emptyMap(), new ConfigurationProperties(new Properties()));
+        ShardingSphereTableData tableData = new ShardingSphereTableData("sharding_table_statistics");
+        tableData.getRows().add(new ShardingSphereRowData(Arrays.asList(1, "foo_db", "t_order", "ds_0", "t_order_0", new BigDecimal("100"), BigDecimal.ZERO)));
+        rule.refreshStatistics(createMetaData(), createStatistics(tableData));
+        Map<String, Double> actual = rule.getRowCounts("foo_db", "foo_schema");
+        assertThrows(UnsupportedOperationException.class, () -> actual.put("t_order", 1D));
+    }
+    
+    private ShardingSphereStatistics createStatistics(final ShardingSphereTableData tableData) {
+        ShardingSphereSchemaData schemaData = new ShardingSphereSchemaData();
+        schemaData.putTable("sharding_table_statistics", tableData);
+        ShardingSphereDatabaseData databaseData = new ShardingSphereDatabaseData();
+        databaseData.putSchema("shardingsphere", schemaData);
+        ShardingSphereStatistics result = new ShardingSphereStatistics();
+        result.putDatabase("shardingsphere", databaseData);
+        return result;
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        ShardingSphereSchema schema = new ShardingSphereSchema(Collections.singletonMap("t_order",
+                new ShardingSphereTable("t_order", Collections.emptyList(), Collections.emptyList(), Collections.emptyList())), Collections.emptyMap());
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getSchemas()).thenReturn(Collections.singletonMap("foo_schema", schema));
+        return new ShardingSphereMetaData(Collections.singletonMap("foo_db", database), mock(ShardingSphereResourceMetaData.class), mock(ShardingSphereRuleMetaData.class),
+                new ConfigurationProperties(new Properties()));
+    }
+}
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeEngine;
 import org.apache.shardingsphere.infra.datasource.props.DataSourceProperties;
+import org.apache.shardingsphere.infra.datasource.state.DataSourceStateManager;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -49,6 +50,7 @@ import org.apache.shardingsphere.infra.rule.builder.global.GlobalRulesBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.MetaDataHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.MutableDataNodeRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.StatisticsHeldRule;
 import org.apache.shardingsphere.infra.rule.identifier.type.TableContainedRule;
 import org.apache.shardingsphere.infra.state.cluster.ClusterState;
 import org.apache.shardingsphere.infra.state.cluster.ClusterStateContext;
@@ -74,6 +76,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -358,21 +361,85 @@ public final class ContextManager implements AutoCloseable {
     public synchronized void alterRuleConfiguration(final String databaseName, final RuleConfiguration ruleConfig) {
         try {
             ShardingSphereDatabase database = metaDataContexts.get().getMetaData().getDatabase(databaseName);
-            Collection<ShardingSphereRule> rules = new LinkedList<>(database.getRuleMetaData().getRules());
-            rules.removeIf(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass()));
-            rules.addAll(DatabaseRulesBuilder.build(databaseName, database.getResourceMetaData().getDataSources(), database.getRuleMetaData().getRules(),
-                    ruleConfig, instanceContext));
-            database.getRuleMetaData().getRules().clear();
-            database.getRuleMetaData().getRules().addAll(rules);
-            MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, false, null, database.getRuleMetaData().getConfigurations());
-            alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), metaDataContexts.get().getMetaData().getDatabase(databaseName));
-            metaDataContexts.set(reloadMetaDataContexts);
-            metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+            Collection<RuleConfiguration> ruleConfigs = new LinkedList<>(database.getRuleMetaData().getConfigurations());
+            ruleConfigs.removeIf(each -> each.getClass().isAssignableFrom(ruleConfig.getClass()));
+            ruleConfigs.add(ruleConfig);
+            if (!isTableContainedRuleAltered(database.getRuleMetaData().getRules(), ruleConfig)) {
+                MetaDataContexts reloadMetaDataContexts = createMetaDataContextsByAlterRule(databaseName, false, null, ruleConfigs);
+                alterSchemaMetaData(databaseName, reloadMetaDataContexts.getMetaData().getDatabase(databaseName), database);
+                metaDataContexts.set(reloadMetaDataContexts);
+                metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchemas().putAll(newShardingSphereSchemas(metaDataContexts.get().getMetaData().getDatabase(databaseName)));
+                return;
+            }
+            Collection<ShardingSphereRule> rules = DatabaseRulesBuilder.build(databaseName, new DataSourceProvidedDatabaseConfiguration(database.getResourceMetaData().getDataSources(), ruleConfigs),
+                    database.getRuleMetaData().getRules(), ruleConfig, instanceContext);
+            Collection<String> affectedTableNames = getAffectedTableNames(database.getRuleMetaData().getRules(), rules, ruleConfig);
+            ShardingSphereDatabase changedDatabase = createChangedDatabaseByAlterTables(database, rules, affectedTableNames);
+            alterSchemaMetaData(databaseName, changedDatabase, database);
+            Map<String, ShardingSphereDatabase> changedDatabases = new LinkedHashMap<>(metaDataContexts.get().getMetaData().getDatabases());
+            changedDatabases.put(databaseName.toLowerCase(), changedDatabase);
+            metaDataContexts.set(newMetaDataContexts(new ShardingSphereMetaData(changedDatabases, metaDataContexts.get().getMetaData().getGlobalResourceMetaData(),
+                    metaDataContexts.get().getMetaData().getGlobalRuleMetaData(), metaDataContexts.get().getMetaData().getProps())));
         } catch (final SQLException ex) {
             log.error("Alter database: {} rule configurations failed", databaseName, ex);
         }
     }
     
+    private boolean isTableContainedRuleAltered(final Collection<ShardingSphereRule> currentRules, final RuleConfiguration ruleConfig) {
+        Collection<ShardingSphereRule> alteredRules = currentRules.stream().filter(each -> each.getConfiguration().getClass().isAssignableFrom(ruleConfig.getClass())).collect(Collectors.toList());
+        return !alteredRules.isEmpty() && alteredRules.stream().allMatch(TableContainedRule.class::isInstance);
+    }
+    
+    private Collection<String> getAffectedTableNames(final Collection<ShardingSphereRule> currentRules, final Collection<ShardingSphereRule> rules, final RuleConfiguration ruleConfig) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (ShardingSphereRule each : rules) {
+            if (currentRules.contains(each)) {
+                continue;
+            }
+            Collection<String> currentTableNames = getLogicTableNames(
+                    currentRules.stream().filter(rule -> rule.getConfiguration().getClass() == each.getConfiguration().getClass()).collect(Collectors.toList()));
+            Collection<String> tableNames = getLogicTableNames(Collections.singleton(each));
+            if (ruleConfig == each.getConfiguration()) {
+                result.addAll(currentTableNames);
+                result.addAll(tableNames);
+            } else {
+                addDifferentTableNames(currentTableNames, tableNames, result);
+            }
+        }
+        addDifferentTableNames(getLogicTableNames(currentRules), getLogicTableNames(rules), result);
+        return result;
+    }
+    
+    private void addDifferentTableNames(final Collection<String> currentTableNames, final Collection<String> tableNames, final Collection<String> result) {
+        currentTableNames.stream().filter(each -> !tableNames.contains(each)).forEach(result::add);
+        tableNames.stream().filter(each -> !currentTableNames.contains(each)).forEach(result::add);
+    }
+    
+    private Collection<String> getLogicTableNames(final Collection<ShardingSphereRule> rules) {
+        Collection<String> result = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        rules.stream().filter(TableContainedRule.class::isInstance).forEach(each -> result.addAll(((TableContainedRule) each).getLogicTableMapper().getTableNames()));
+        return result;
+    }
+    
+    private ShardingSphereDatabase createChangedDatabaseByAlterTables(final ShardingSphereDatabase database, final Collection<ShardingSphereRule> rules,
+                                                                      final Collection<String> affectedTableNames) throws SQLException {
+        Map<String, ShardingSphereSchema> schemas = new LinkedHashMap<>(database.getSchemas().size(), 1F);
+        for (Entry<String, ShardingSphereSchema> entry : database.getSchemas().entrySet()) {
+            ShardingSphereSchema schema = new ShardingSphereSchema(entry.getValue().getTables(), entry.getValue().getViews());
+            affectedTableNames.forEach(schema::removeTable);
+            schemas.put(entry.getKey(), schema);
+        }
+        Collection<String> logicTableNames = getLogicTableNames(rules);
+        Collection<String> toBeReloadedTableNames = affectedTableNames.stream().filter(logicTableNames::contains).collect(Collectors.toList());
+        if (!toBeReloadedTableNames.isEmpty()) {
+            GenericSchemaBuilderMaterial material = new GenericSchemaBuilderMaterial(database.getProtocolType(), database.getResourceMetaData().getStorageTypes(),
+                    DataSourceStateManager.getInstance().getEnabledDataSourceMap(database.getName(), database.getResourceMetaData().getDataSources()), rules,
+                    metaDataContexts.get().getMetaData().getProps(), DatabaseTypeEngine.getDefaultSchemaName(database.getProtocolType(), database.getName()));
+            GenericSchemaBuilder.build(toBeReloadedTableNames, material).forEach((key, value) -> schemas.computeIfAbsent(key, schemaName -> new ShardingSphereSchema()).putAll(value.getTables()));
+        }
+        return new ShardingSphereDatabase(database.getName(), database.getProtocolType(), database.getResourceMetaData(), new ShardingSphereRuleMetaData(rules), schemas);
+    }
+    
     /**
      * Alter schema meta data.
      * 
@@ -837,6 +904,7 @@ public final class ContextManager implements AutoCloseable {
         ShardingSphereTableData tableData = metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).getTable(tableName);
         List<ShardingSphereColumn> columns = new ArrayList<>(metaDataContexts.get().getMetaData().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getColumnValues());
         tableData.getRows().add(new YamlShardingSphereRowDataSwapper(columns).swapToObject(yamlRowData));
+        alterStatisticsHeldRule(databaseName, schemaName, tableName);
     }
     
     /**
@@ -853,6 +921,12 @@ public final class ContextManager implements AutoCloseable {
             return;
         }
         metaDataContexts.get().getStatistics().getDatabase(databaseName).getSchema(schemaName).getTable(tableName).getRows().removeIf(each -> uniqueKey.equals(each.getUniqueKey()));
+        alterStatisticsHeldRule(databaseName, schemaName, tableName);
+    }
+    
+    private void alterStatisticsHeldRule(final String databaseName, final String schemaName, final String tableName) {
+        metaDataContexts.get().getMetaData().getGlobalRuleMetaData().findRules(StatisticsHeldRule.class)
+                .forEach(each -> each.alterStatistics(metaDataContexts.get().getMetaData(), metaDataContexts.get().getStatistics(), databaseName, schemaName, tableName));
     }
     
     /**
@@ -26,6 +26,7 @@ import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereSchemaD
 import org.apache.shardingsphere.infra.metadata.statistics.ShardingSphereTableData;
 import org.apache.shardingsphere.infra.metadata.statistics.builder.ShardingSphereStatisticsBuilder;
 import org.apache.shardingsphere.infra.rule.identifier.type.ResourceHeldRule;
+import org.apache.shardingsphere.infra.rule.identifier.type.StatisticsHeldRule;
 import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.metadata.persist.MetaDataBasedPersistService;
 
@@ -48,6 +49,7 @@ public final class MetaDataContexts implements AutoCloseable {
         this.persistService = persistService;
         this.metaData = metaData;
         this.statistics = initStatistics(metaData);
+        metaData.getGlobalRuleMetaData().findRules(StatisticsHeldRule.class).forEach(each -> each.refreshStatistics(metaData, statistics));
     }
     
     private ShardingSphereStatistics initStatistics(final ShardingSphereMetaData metaData) {
@@ -259,6 +259,10 @@ SHARDING_SIZE
     : S H A R D I N G UL_ S I Z E
     ;
 
+DECODE_WORKER_THREAD
+    : D E C O D E UL_ W O R K E R UL_ T H R E A D
+    ;
+
 RATE_LIMITER
     : R A T E UL_ L I M I T E R
     ;
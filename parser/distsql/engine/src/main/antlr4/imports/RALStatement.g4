@@ -120,7 +120,7 @@ inventoryIncrementalRule
     ;
 
 readDefinition
-    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? rateLimiter)? RP_
+    : READ LP_ workerThread? (COMMA_? batchSize)? (COMMA_? shardingSize)? (COMMA_? decodeWorkerThread)? (COMMA_? rateLimiter)? RP_
     ;
 
 writeDefinition
@@ -139,6 +139,10 @@ shardingSize
     : SHARDING_SIZE EQ_ intValue
     ;
 
+decodeWorkerThread
+    : DECODE_WORKER_THREAD EQ_ intValue
+    ;
+
 rateLimiter
     : RATE_LIMITER LP_ algorithmDefinition RP_
     ;
@@ -34,12 +34,15 @@ public final class ReadOrWriteSegment implements ASTNode {
     
     private final Integer shardingSize;
     
+    private final Integer decodeWorkerThread;
+    
     private final AlgorithmSegment rateLimiter;
     
     public ReadOrWriteSegment(final Integer workerThread, final Integer batchSize, final AlgorithmSegment rateLimiter) {
         this.workerThread = workerThread;
         this.batchSize = batchSize;
         this.shardingSize = 1000_0000;
+        this.decodeWorkerThread = null;
         this.rateLimiter = rateLimiter;
     }
 }
@@ -41,9 +41,16 @@ public final class ResourceLock {
      *
      * @param context channel handler context
      */
+    public void doAwait(final ChannelHandlerContext context) {
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            return;
+        }
+        awaitWritable(context);
+    }
+    
     @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
-    public void doAwait(final ChannelHandlerContext context) {
+    private void awaitWritable(final ChannelHandlerContext context) {
         while (!context.channel().isWritable() && context.channel().isActive()) {
             context.flush();
             lock.lock();
@@ -49,7 +49,8 @@ public final class InventoryIncrementalProcessConfigurationSegmentConverter {
     private static PipelineReadConfiguration convertToReadConfiguration(final ReadOrWriteSegment readSegment) {
         return null == readSegment
                 ? null
-                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), convertToAlgorithm(readSegment.getRateLimiter()));
+                : new PipelineReadConfiguration(readSegment.getWorkerThread(), readSegment.getBatchSize(), readSegment.getShardingSize(), readSegment.getDecodeWorkerThread(),
+                        convertToAlgorithm(readSegment.getRateLimiter()));
     }
     
     private static PipelineWriteConfiguration convertToWriteConfiguration(final ReadOrWriteSegment writeSegment) {
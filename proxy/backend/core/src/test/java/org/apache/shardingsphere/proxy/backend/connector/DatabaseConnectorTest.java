@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
 import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -46,6 +47,7 @@ import org.apache.shardingsphere.parser.config.SQLParserRuleConfiguration;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.fixture.QueryHeaderBuilderFixture;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -66,6 +68,7 @@ import java.lang.reflect.Field;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Timestamp;
 import java.sql.Types;
 import java.util.Arrays;
 import java.util.Collection;
@@ -181,6 +184,37 @@ class DatabaseConnectorTest {
         return result;
     }
     
+    @Test
+    void assertGetRowDataWithRawRowPassthrough() throws SQLException, ReflectiveOperationException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        accessor.set(DatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Collections.singletonList(mock(QueryHeader.class)));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, byte[].class)).thenReturn(new byte[]{'1'});
+        accessor.set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        accessor.set(DatabaseConnector.class.getDeclaredField("rawRowPassthrough"), engine, true);
+        assertThat(engine.getRowData().getData().iterator().next(), is(new byte[]{'1'}));
+    }
+    
+    @Test
+    void assertGetRowDataWithRawRowPassthroughForTemporalColumn() throws SQLException, ReflectiveOperationException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList()), databaseConnectionManager, false);
+        MemberAccessor accessor = Plugins.getMemberAccessor();
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(Types.TIMESTAMP);
+        accessor.set(DatabaseConnector.class.getDeclaredField("queryHeaders"), engine, Collections.singletonList(queryHeader));
+        MergedResult mergedResult = mock(MergedResult.class);
+        Timestamp timestamp = new Timestamp(0L);
+        when(mergedResult.getValue(1, Object.class)).thenReturn(timestamp);
+        accessor.set(DatabaseConnector.class.getDeclaredField("mergedResult"), engine, mergedResult);
+        accessor.set(DatabaseConnector.class.getDeclaredField("rawRowPassthrough"), engine, true);
+        assertThat(engine.getRowData().getData().iterator().next(), is(timestamp));
+    }
+    
     @Test
     void assertAddStatementCorrectly() {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
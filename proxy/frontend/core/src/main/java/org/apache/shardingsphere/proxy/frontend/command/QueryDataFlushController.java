@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+
+/**
+ * Flush controller for writing query data, which flushes by written row count or by bytes pending in outbound buffer.
+ */
+public final class QueryDataFlushController {
+    
+    private static final long DEFAULT_FLUSH_BYTES = 64L * 1024L;
+    
+    private final ChannelHandlerContext context;
+    
+    private final int flushThreshold;
+    
+    private final long flushBytes;
+    
+    private int unflushedCount;
+    
+    public QueryDataFlushController(final ChannelHandlerContext context, final int flushThreshold) {
+        this.context = context;
+        this.flushThreshold = flushThreshold;
+        flushBytes = Math.min(DEFAULT_FLUSH_BYTES, context.channel().config().getWriteBufferLowWaterMark());
+    }
+    
+    /**
+     * Write data and flush if written row count or pending bytes reaches threshold.
+     *
+     * @param data data to be written
+     */
+    public void write(final Object data) {
+        context.write(data);
+        unflushedCount++;
+        if (flushThreshold <= unflushedCount || flushBytes <= getPendingBytes()) {
+            context.flush();
+            unflushedCount = 0;
+        }
+    }
+    
+    private long getPendingBytes() {
+        Channel channel = context.channel();
+        return Math.max(channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable(), 0L);
+    }
+}
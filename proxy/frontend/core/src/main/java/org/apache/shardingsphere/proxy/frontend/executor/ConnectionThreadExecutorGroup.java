@@ -18,12 +18,16 @@
 package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,15 +37,22 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread can be virtual thread, which keeps the same thread affinity with much lower cost for idle connections.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ConnectionThreadExecutorGroup {
     
     private static final ConnectionThreadExecutorGroup INSTANCE = new ConnectionThreadExecutorGroup();
     
+    private static final String NAME_FORMAT = "Connection-%d-ThreadExecutor";
+    
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Getter
+    private volatile boolean virtualThreadEnabled;
+    
     /**
      * Get connection thread executor group.
      *
@@ -51,6 +62,17 @@ public final class ConnectionThreadExecutorGroup {
         return INSTANCE;
     }
     
+    /**
+     * Enable virtual thread for connections registered later.
+     */
+    public void enableVirtualThread() {
+        if (VirtualThreadFactoryBuilder.isSupported()) {
+            virtualThreadEnabled = true;
+        } else {
+            log.warn("Virtual thread is not supported by current JVM, use platform thread for connections instead.");
+        }
+    }
+    
     /**
      * Register connection.
      *
@@ -61,7 +83,11 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        String threadName = String.format(NAME_FORMAT, connectionId);
+        ThreadFactory threadFactory = virtualThreadEnabled
+                ? VirtualThreadFactoryBuilder.build(threadName).orElseGet(() -> runnable -> new Thread(runnable, threadName))
+                : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -22,6 +22,11 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.handler.codec.compression.SnappyFrameDecoder;
+import io.netty.handler.codec.compression.SnappyFrameEncoder;
+import io.netty.handler.codec.compression.ZlibCodecFactory;
+import io.netty.handler.codec.compression.ZlibWrapper;
 import io.netty.util.AttributeKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.authority.model.ShardingSpherePrivileges;
@@ -35,10 +40,13 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.AckStreaming
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.DropStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StartStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StopStreamingRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.StreamDataRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.ResponseCase;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.LoginResult;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.ServerGreetingResult;
 import org.apache.shardingsphere.data.pipeline.core.exception.param.PipelineInvalidParameterException;
 import org.apache.shardingsphere.distsql.handler.exception.rule.MissingRequiredRuleException;
@@ -139,12 +147,33 @@ public final class CDCChannelInboundHandler extends ChannelInboundHandlerAdapter
         Optional<ShardingSphereUser> user = authorityRule.findUser(new Grantee(body.getUsername(), getHostAddress(ctx)));
         if (user.isPresent() && Objects.equals(Hashing.sha256().hashBytes(user.get().getPassword().getBytes()).toString().toUpperCase(), body.getPassword())) {
             ctx.channel().attr(CONNECTION_CONTEXT_KEY).set(new CDCConnectionContext(user.get()));
-            ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId()));
+            CompressionType compression = getCompression(request.getLoginRequestBody().getCompression());
+            ctx.writeAndFlush(CDCResponseUtils.succeed(request.getRequestId(), ResponseCase.LOGIN_RESULT, LoginResult.newBuilder().setCompression(compression).build()));
+            enableCompression(ctx.pipeline(), compression);
         } else {
             throw new CDCExceptionWrapper(request.getRequestId(), new CDCLoginException("Illegal username or password"));
         }
     }
     
+    private CompressionType getCompression(final CompressionType requestedCompression) {
+        return CompressionType.UNRECOGNIZED == requestedCompression ? CompressionType.NONE : requestedCompression;
+    }
+    
+    private void enableCompression(final ChannelPipeline pipeline, final CompressionType compression) {
+        switch (compression) {
+            case ZLIB:
+                pipeline.addFirst(ZlibCodecFactory.newZlibEncoder(ZlibWrapper.ZLIB));
+                pipeline.addFirst(ZlibCodecFactory.newZlibDecoder(ZlibWrapper.ZLIB));
+                break;
+            case SNAPPY:
+                pipeline.addFirst(new SnappyFrameEncoder());
+                pipeline.addFirst(new SnappyFrameDecoder());
+                break;
+            default:
+                break;
+        }
+    }
+    
     private void checkPrivileges(final String requestId, final Grantee grantee, final String currentDatabase) {
         AuthorityRule authorityRule = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(AuthorityRule.class)
                 .orElseThrow(() -> new CDCExceptionWrapper(requestId, new MissingRequiredRuleException("authority")));
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryDataFlushControllerTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.channel().config().getWriteBufferLowWaterMark()).thenReturn(32 * 1024);
+        when(context.channel().config().getWriteBufferHighWaterMark()).thenReturn(64 * 1024);
+    }
+    
+    @Test
+    void assertWriteWithoutFlush() {
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(64L * 1024L);
+        QueryDataFlushController flushController = new QueryDataFlushController(context, 3);
+        flushController.write(new Object());
+        flushController.write(new Object());
+        verify(context, times(2)).write(any());
+        verify(context, never()).flush();
+    }
+    
+    @Test
+    void assertWriteAndFlushByThreshold() {
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(64L * 1024L);
+        QueryDataFlushController flushController = new QueryDataFlushController(context, 2);
+        for (int i = 0; i < 5; i++) {
+            flushController.write(new Object());
+        }
+        verify(context, times(2)).flush();
+    }
+    
+    @Test
+    void assertWriteAndFlushByPendingBytes() {
+        when(context.channel().bytesBeforeUnwritable()).thenReturn(16L * 1024L);
+        QueryDataFlushController flushController = new QueryDataFlushController(context, 100);
+        flushController.write(new Object());
+        verify(context).flush();
+    }
+}
@@ -19,6 +19,8 @@ package org.apache.shardingsphere.proxy.frontend.netty;
 
 import com.google.common.hash.Hashing;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.compression.ZlibDecoder;
+import io.netty.handler.codec.compression.ZlibEncoder;
 import io.netty.handler.logging.LoggingHandler;
 import org.apache.shardingsphere.authority.rule.AuthorityRule;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest;
@@ -26,6 +28,7 @@ import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.B
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.CDCRequest.Type;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.BasicBody;
+import org.apache.shardingsphere.data.pipeline.cdc.protocol.request.LoginRequestBody.CompressionType;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse;
 import org.apache.shardingsphere.data.pipeline.cdc.protocol.response.CDCResponse.Status;
 import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
@@ -47,6 +50,8 @@ import java.util.Optional;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -117,5 +122,36 @@ class CDCChannelInboundHandlerTest {
         assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
         assertThat(expectedLoginResult.getErrorCode(), is(""));
         assertThat(expectedLoginResult.getErrorMessage(), is(""));
+        assertThat(expectedLoginResult.getLoginResult().getCompression(), is(CompressionType.NONE));
+        assertNull(channel.pipeline().get(ZlibEncoder.class));
+    }
+    
+    @Test
+    void assertLoginRequestSucceedWithCompression() {
+        String encryptPassword = Hashing.sha256().hashBytes("root".getBytes()).toString().toUpperCase();
+        CDCRequest actualRequest = CDCRequest.newBuilder().setType(Type.LOGIN).setLoginRequestBody(LoginRequestBody.newBuilder().setBasicBody(BasicBody.newBuilder().setUsername("root")
+                .setPassword(encryptPassword).build()).setCompression(CompressionType.ZLIB).build()).build();
+        channel.writeInbound(actualRequest);
+        CDCResponse expectedGreetingResult = channel.readOutbound();
+        assertTrue(expectedGreetingResult.hasServerGreetingResult());
+        CDCResponse expectedLoginResult = channel.readOutbound();
+        assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
+        assertThat(expectedLoginResult.getLoginResult().getCompression(), is(CompressionType.ZLIB));
+        assertNotNull(channel.pipeline().get(ZlibEncoder.class));
+        assertNotNull(channel.pipeline().get(ZlibDecoder.class));
+    }
+    
+    @Test
+    void assertLoginRequestSucceedWithUnrecognizedCompression() {
+        String encryptPassword = Hashing.sha256().hashBytes("root".getBytes()).toString().toUpperCase();
+        CDCRequest actualRequest = CDCRequest.newBuilder().setType(Type.LOGIN).setLoginRequestBody(LoginRequestBody.newBuilder().setBasicBody(BasicBody.newBuilder().setUsername("root")
+                .setPassword(encryptPassword).build()).setCompressionValue(99).build()).build();
+        channel.writeInbound(actualRequest);
+        CDCResponse expectedGreetingResult = channel.readOutbound();
+        assertTrue(expectedGreetingResult.hasServerGreetingResult());
+        CDCResponse expectedLoginResult = channel.readOutbound();
+        assertThat(expectedLoginResult.getStatus(), is(Status.SUCCEED));
+        assertThat(expectedLoginResult.getLoginResult().getCompression(), is(CompressionType.NONE));
+        assertNull(channel.pipeline().get(ZlibEncoder.class));
     }
 }
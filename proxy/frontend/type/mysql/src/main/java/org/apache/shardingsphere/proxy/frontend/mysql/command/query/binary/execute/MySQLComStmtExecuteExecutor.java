@@ -49,6 +49,7 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.Resp
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -67,6 +68,10 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private int[] jdbcTypes = new int[0];
+    
+    private MySQLBinaryColumnType[] binaryColumnTypes = new MySQLBinaryColumnType[0];
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -94,6 +99,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        jdbcTypes = new int[queryResponseHeader.getQueryHeaders().size()];
+        binaryColumnTypes = new MySQLBinaryColumnType[jdbcTypes.length];
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.MYSQL_CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession));
     }
@@ -116,12 +123,25 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
         List<BinaryCell> result = new ArrayList<>(queryResponseRow.getCells().size());
+        int columnIndex = 0;
         for (QueryResponseCell each : queryResponseRow.getCells()) {
-            result.add(new BinaryCell(MySQLBinaryColumnType.valueOfJDBCType(each.getJdbcType()), each.getData()));
+            result.add(new BinaryCell(getBinaryColumnType(columnIndex++, each.getJdbcType()), each.getData()));
         }
         return new BinaryRow(result);
     }
     
+    private MySQLBinaryColumnType getBinaryColumnType(final int columnIndex, final int jdbcType) {
+        if (columnIndex >= binaryColumnTypes.length) {
+            jdbcTypes = Arrays.copyOf(jdbcTypes, columnIndex + 1);
+            binaryColumnTypes = Arrays.copyOf(binaryColumnTypes, columnIndex + 1);
+        }
+        if (null == binaryColumnTypes[columnIndex] || jdbcType != jdbcTypes[columnIndex]) {
+            binaryColumnTypes[columnIndex] = MySQLBinaryColumnType.valueOfJDBCType(jdbcType);
+            jdbcTypes[columnIndex] = jdbcType;
+        }
+        return binaryColumnTypes[columnIndex];
+    }
+    
     @Override
     public void close() throws SQLException {
         proxyBackendHandler.close();
@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.driver;
+
+import org.apache.shardingsphere.driver.executor.batch.BatchPreparedStatementExecutor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for grouping routed parameter sets into batch execution units of batch prepared statement executor.
+ *
+ * <p>Each parameter set is routed to one of the data nodes, so the number of batch execution units grows with data node count.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchPreparedStatementExecutorBenchmark {
+    
+    private static final int DATA_SOURCE_COUNT = 4;
+    
+    @Param({"100", "1000", "10000", "100000"})
+    private int batchSize;
+    
+    @Param({"16", "256"})
+    private int dataNodeCount;
+    
+    private List<Collection<ExecutionUnit>> routedExecutionUnits;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        routedExecutionUnits = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            int dataNodeIndex = i % dataNodeCount;
+            String sql = String.format("INSERT INTO t_order_%d (order_id, user_id, status) VALUES (?, ?, ?)", dataNodeIndex);
+            List<Object> params = new ArrayList<>(Arrays.asList((long) i, dataNodeIndex, "OK"));
+            routedExecutionUnits.add(Collections.singletonList(new ExecutionUnit("ds_" + dataNodeIndex % DATA_SOURCE_COUNT, new SQLUnit(sql, params))));
+        }
+    }
+    
+    /**
+     * Add batch for execution units.
+     *
+     * @return batch prepared statement executor
+     */
+    @Benchmark
+    public BatchPreparedStatementExecutor addBatchForExecutionUnits() {
+        BatchPreparedStatementExecutor result = new BatchPreparedStatementExecutor(null, null, "logic_db");
+        for (Collection<ExecutionUnit> each : routedExecutionUnits) {
+            result.addBatchForExecutionUnits(each);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.encrypt;
+
+import org.apache.shardingsphere.encrypt.api.context.EncryptContext;
+import org.apache.shardingsphere.encrypt.api.encrypt.standard.StandardEncryptAlgorithm;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encrypting and decrypting one cell with standard encrypt algorithms.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StandardEncryptAlgorithmBenchmark {
+    
+    private static final String PLAIN_VALUE = "13800138000";
+    
+    @Param({"AES", "SM4"})
+    private String type;
+    
+    private StandardEncryptAlgorithm<Object, String> encryptAlgorithm;
+    
+    private EncryptContext encryptContext;
+    
+    private String cipherValue;
+    
+    /**
+     * Set up.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        encryptAlgorithm = (StandardEncryptAlgorithm<Object, String>) TypedSPILoader.getService(EncryptAlgorithm.class, type, createProperties());
+        encryptContext = new EncryptContext("foo_db", "foo_db", "t_user", "phone");
+        cipherValue = encryptAlgorithm.encrypt(PLAIN_VALUE, encryptContext);
+    }
+    
+    private Properties createProperties() {
+        Properties result = new Properties();
+        if ("AES".equals(type)) {
+            result.setProperty("aes-key-value", "123456abc");
+        } else {
+            result.setProperty("sm4-key", "4D744E003D713D054E7E407C350E447E");
+            result.setProperty("sm4-mode", "ECB");
+            result.setProperty("sm4-padding", "PKCS5Padding");
+        }
+        return result;
+    }
+    
+    /**
+     * Encrypt.
+     *
+     * @return cipher value
+     */
+    @Benchmark
+    public String encrypt() {
+        return encryptAlgorithm.encrypt(PLAIN_VALUE, encryptContext);
+    }
+    
+    /**
+     * Decrypt.
+     *
+     * @return plain value
+     */
+    @Benchmark
+    public Object decrypt() {
+        return encryptAlgorithm.decrypt(cipherValue, encryptContext);
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.expr;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionEvaluator;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for evaluating inline sharding expressions with compiled evaluator and Groovy closure.
+ *
+ * <p>The closure benchmark evaluates and rehydrates a closure per call, as inline sharding algorithms did before compiling expressions in init.
+ * The {@code ESPRESSO} parser has to be run on GraalVM with {@code espresso-need-libs} on the classpath.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InlineExpressionEvaluateBenchmark {
+    
+    private static final String COLUMN_NAME = "user_id";
+    
+    private static final int SHARDING_VALUE_COUNT = 1024;
+    
+    @Param({"HOTSPOT", "ESPRESSO"})
+    private String parserType;
+    
+    @Param({"t_order_${user_id % 16}", "ds_${(user_id % 4) + 1}"})
+    private String algorithmExpression;
+    
+    private InlineExpressionParser parser;
+    
+    private InlineExpressionEvaluator evaluator;
+    
+    private Map<String, Long>[] variables;
+    
+    private int index;
+    
+    /**
+     * Set up.
+     */
+    @SuppressWarnings("unchecked")
+    @Setup(Level.Trial)
+    public void setUp() {
+        parser = TypedSPILoader.getService(InlineExpressionParser.class, parserType);
+        evaluator = parser.compile(algorithmExpression);
+        variables = new Map[SHARDING_VALUE_COUNT];
+        for (int i = 0; i < SHARDING_VALUE_COUNT; i++) {
+            variables[i] = Collections.singletonMap(COLUMN_NAME, ThreadLocalRandom.current().nextLong(0L, 1000000L));
+        }
+    }
+    
+    /**
+     * Evaluate with compiled evaluator.
+     *
+     * @return target sharding node
+     */
+    @Benchmark
+    public String evaluateCompiled() {
+        return evaluator.evaluate(nextVariables());
+    }
+    
+    /**
+     * Evaluate with Groovy closure.
+     *
+     * @return target sharding node
+     */
+    @Benchmark
+    public String evaluateClosure() {
+        Closure<?> closure = parser.evaluateClosure(algorithmExpression).rehydrate(new Expando(), null, null);
+        closure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        closure.setProperty(COLUMN_NAME, nextVariables().get(COLUMN_NAME));
+        return closure.call().toString();
+    }
+    
+    private Map<String, Long> nextVariables() {
+        index = (index + 1) & (SHARDING_VALUE_COUNT - 1);
+        return variables[index];
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.mode;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.infra.config.algorithm.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.database.impl.DataSourceProvidedDatabaseConfiguration;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceMetaDataBuilder;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.ContextManagerBuilder;
+import org.apache.shardingsphere.mode.manager.ContextManagerBuilderParameter;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.single.api.config.SingleRuleConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for altering one rule configuration of a database with many tables.
+ *
+ * <p>The altered sharding rule contains one logic table, and all other tables are loaded as single tables from an in-memory H2 storage unit.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class AlterRuleConfigurationBenchmark {
+    
+    private static final String DATABASE_NAME = "logic_db";
+    
+    private static final String DATA_SOURCE_NAME = "ds_0";
+    
+    @Param({"100", "1000", "5000"})
+    private int tableCount;
+    
+    private HikariDataSource dataSource;
+    
+    private ContextManager contextManager;
+    
+    private ShardingRuleConfiguration shardingRuleConfig;
+    
+    /**
+     * Set up.
+     *
+     * @throws SQLException SQL exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        dataSource = createDataSource();
+        createTables();
+        shardingRuleConfig = createShardingRuleConfiguration();
+        Collection<RuleConfiguration> ruleConfigs = Arrays.asList(shardingRuleConfig, new SingleRuleConfiguration(Collections.singletonList("*.*"), null));
+        ContextManagerBuilderParameter param = new ContextManagerBuilderParameter(null, Collections.singletonMap(DATABASE_NAME,
+                new DataSourceProvidedDatabaseConfiguration(Collections.singletonMap(DATA_SOURCE_NAME, dataSource), ruleConfigs)), Collections.emptyMap(),
+                Collections.emptyList(), new Properties(), Collections.emptyList(), TypedSPILoader.getService(InstanceMetaDataBuilder.class, "JDBC").build(-1), false);
+        contextManager = TypedSPILoader.getService(ContextManagerBuilder.class, null).build(param);
+    }
+    
+    private HikariDataSource createDataSource() {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:benchmark_ds_%d;DB_CLOSE_DELAY=-1;DATABASE_TO_UPPER=false;MODE=MySQL", tableCount));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        return result;
+    }
+    
+    private void createTables() throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_0 (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(50))");
+            statement.execute("CREATE TABLE IF NOT EXISTS t_order_1 (order_id BIGINT PRIMARY KEY, user_id INT, status VARCHAR(50))");
+            for (int i = 0; i < tableCount; i++) {
+                statement.execute(String.format("CREATE TABLE IF NOT EXISTS t_single_%d (id BIGINT PRIMARY KEY, name VARCHAR(50), created_time TIMESTAMP)", i));
+            }
+        }
+    }
+    
+    private ShardingRuleConfiguration createShardingRuleConfiguration() {
+        ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", DATA_SOURCE_NAME + ".t_order_${0..1}");
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "t_order_inline"));
+        result.getTables().add(tableRuleConfig);
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", "t_order_${order_id % 2}");
+        result.getShardingAlgorithms().put("t_order_inline", new AlgorithmConfiguration("INLINE", props));
+        return result;
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contextManager.close();
+        dataSource.close();
+    }
+    
+    /**
+     * Alter one rule configuration, which reloads tables of the altered rule only.
+     *
+     * @return context manager
+     */
+    @Benchmark
+    public ContextManager alterRuleConfiguration() {
+        contextManager.alterRuleConfiguration(DATABASE_NAME, shardingRuleConfig);
+        return contextManager;
+    }
+    
+    /**
+     * Alter all rule configurations, which rebuilds rules and reloads all tables of the database.
+     *
+     * @return context manager
+     */
+    @Benchmark
+    public ContextManager alterRuleConfigurations() {
+        contextManager.alterRuleConfiguration(DATABASE_NAME, contextManager.getMetaDataContexts().getMetaData().getDatabase(DATABASE_NAME).getRuleMetaData().getConfigurations());
+        return contextManager;
+    }
+}
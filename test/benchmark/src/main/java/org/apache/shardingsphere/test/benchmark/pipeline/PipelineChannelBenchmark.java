@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.pipeline;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.common.ingest.channel.PipelineChannelCreator;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for transferring records from dumpers to one importer through pipeline channel.
+ * 
+ * <p>Each operation transfers {@code recordCount} records. Both channel types buffer at most {@code bufferedRecordCount} records.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PipelineChannelBenchmark {
+    
+    private static final int PUSH_BATCH_SIZE = 100;
+    
+    private static final int FETCH_BATCH_SIZE = 1000;
+    
+    @Param({"MEMORY", "BLOCKING_MEMORY"})
+    private String channelType;
+    
+    @Param({"1", "4", "16"})
+    private int dumperCount;
+    
+    @Param("100000")
+    private int recordCount;
+    
+    @Param("2000")
+    private int bufferedRecordCount;
+    
+    private PipelineChannelCreator channelCreator;
+    
+    private ExecutorService dumperExecutor;
+    
+    private List<Record> pushedRecords;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("block-queue-size", String.valueOf("MEMORY".equals(channelType) ? bufferedRecordCount / PUSH_BATCH_SIZE : bufferedRecordCount));
+        channelCreator = TypedSPILoader.getService(PipelineChannelCreator.class, channelType, props);
+        dumperExecutor = Executors.newFixedThreadPool(dumperCount);
+        pushedRecords = new ArrayList<>(PUSH_BATCH_SIZE);
+        for (int i = 0; i < PUSH_BATCH_SIZE; i++) {
+            pushedRecords.add(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dumperExecutor.shutdownNow();
+    }
+    
+    /**
+     * Transfer records.
+     *
+     * @return fetched record count
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public int transfer() throws InterruptedException, ExecutionException {
+        PipelineChannel channel = channelCreator.createPipelineChannel(1, 0, records -> {
+        });
+        int pushCountPerDumper = recordCount / PUSH_BATCH_SIZE / dumperCount;
+        Collection<Future<?>> futures = new LinkedList<>();
+        for (int i = 0; i < dumperCount; i++) {
+            futures.add(dumperExecutor.submit(() -> {
+                for (int j = 0; j < pushCountPerDumper; j++) {
+                    channel.pushRecords(new ArrayList<>(pushedRecords));
+                }
+            }));
+        }
+        int expectedCount = pushCountPerDumper * PUSH_BATCH_SIZE * dumperCount;
+        int result = 0;
+        while (result < expectedCount) {
+            List<Record> records = channel.fetchRecords(FETCH_BATCH_SIZE, 1L, TimeUnit.SECONDS);
+            channel.ack(records);
+            result += records.size();
+        }
+        for (Future<?> each : futures) {
+            each.get();
+        }
+        channel.close();
+        return result;
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.protocol.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for writing MySQL text protocol rows from decoded values and from raw backend bytes.
+ * 
+ * <p>Decoded rows hold the objects read by {@code ResultSet#getObject}, raw rows hold the bytes read by {@code ResultSet#getBytes}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLRawRowPassthroughBenchmark {
+    
+    private ByteBuf byteBuf;
+    
+    private MySQLPacketPayload payload;
+    
+    private List<Object> decodedRow;
+    
+    private List<Object> rawRow;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        decodedRow = Arrays.asList(10001L, 200, "order_status_paid", new BigDecimal("128.50"), 3.5D, "shipping to warehouse 7");
+        rawRow = new ArrayList<>(decodedRow.size());
+        for (Object each : decodedRow) {
+            rawRow.add(each.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        byteBuf.release();
+    }
+    
+    /**
+     * Write row from decoded values.
+     *
+     * @return payload
+     */
+    @Benchmark
+    public MySQLPacketPayload writeDecodedRow() {
+        byteBuf.clear();
+        new MySQLTextResultSetRowPacket(decodedRow).write(payload);
+        return payload;
+    }
+    
+    /**
+     * Write row from raw bytes.
+     *
+     * @return payload
+     */
+    @Benchmark
+    public MySQLPacketPayload writeRawRow() {
+        byteBuf.clear();
+        new MySQLTextResultSetRowPacket(rawRow).write(payload);
+        return payload;
+    }
+}
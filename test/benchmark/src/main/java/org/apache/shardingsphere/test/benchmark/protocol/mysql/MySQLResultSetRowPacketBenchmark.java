@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.protocol.mysql;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.shardingsphere.db.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.db.protocol.binary.BinaryRow;
+import org.apache.shardingsphere.db.protocol.mysql.constant.MySQLBinaryColumnType;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.execute.MySQLBinaryResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for encoding one MySQL result set row.
+ * 
+ * <p>Run with {@code -prof gc} to get allocated bytes per row from {@code gc.alloc.rate.norm}.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MySQLResultSetRowPacketBenchmark {
+    
+    private ByteBuf byteBuf;
+    
+    private MySQLPacketPayload payload;
+    
+    private List<Object> textRow;
+    
+    private BinaryRow binaryRow;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        byteBuf = PooledByteBufAllocator.DEFAULT.buffer(1024);
+        payload = new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8);
+        Timestamp timestamp = Timestamp.valueOf("2023-06-01 12:00:00");
+        textRow = Arrays.asList(10001L, "order_status_paid", new BigDecimal("128.50"), timestamp, true, null);
+        binaryRow = new BinaryRow(Arrays.asList(new BinaryCell(MySQLBinaryColumnType.LONGLONG, 10001L), new BinaryCell(MySQLBinaryColumnType.VAR_STRING, "order_status_paid"),
+                new BinaryCell(MySQLBinaryColumnType.NEWDECIMAL, new BigDecimal("128.50")), new BinaryCell(MySQLBinaryColumnType.DATETIME, timestamp),
+                new BinaryCell(MySQLBinaryColumnType.TINY, 1), new BinaryCell(MySQLBinaryColumnType.VAR_STRING, null)));
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        byteBuf.release();
+    }
+    
+    /**
+     * Write text protocol row.
+     *
+     * @return payload
+     */
+    @Benchmark
+    public MySQLPacketPayload writeTextRow() {
+        byteBuf.clear();
+        new MySQLTextResultSetRowPacket(textRow).write(payload);
+        return payload;
+    }
+    
+    /**
+     * Write binary protocol row.
+     *
+     * @return payload
+     */
+    @Benchmark
+    public MySQLPacketPayload writeBinaryRow() {
+        byteBuf.clear();
+        new MySQLBinaryResultSetRowPacket(binaryRow).write(payload);
+        return payload;
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.proxy.frontend;
+
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for running commands on connection threads while many idle connections are open.
+ * 
+ * <p>Every connection has run one command before measurement, so each of them holds a parked worker thread like an idle client connection does.
+ * Virtual thread requires JDK 21 or later, otherwise platform thread is used. Large connection counts of platform thread may need higher process limits.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class ConnectionThreadExecutorGroupBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean virtualThreadEnabled;
+    
+    @Param({"1000", "10000", "20000"})
+    private int connectionCount;
+    
+    /**
+     * Set up.
+     *
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException, ExecutionException {
+        if (virtualThreadEnabled) {
+            ConnectionThreadExecutorGroup.getInstance().enableVirtualThread();
+        }
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().register(i);
+            ConnectionThreadExecutorGroup.getInstance().get(i).submit(() -> {
+            }).get();
+        }
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        for (int i = 0; i < connectionCount; i++) {
+            ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(i);
+        }
+    }
+    
+    /**
+     * Execute one command on a random connection and wait for its completion.
+     *
+     * @return thread name which executed the command
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @Benchmark
+    public String executeCommand() throws InterruptedException, ExecutionException {
+        return ConnectionThreadExecutorGroup.getInstance().get(ThreadLocalRandom.current().nextInt(connectionCount)).submit(() -> Thread.currentThread().getName()).get();
+    }
+}
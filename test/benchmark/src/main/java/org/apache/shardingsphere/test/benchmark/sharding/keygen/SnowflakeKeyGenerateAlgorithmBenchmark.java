@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding.keygen;
+
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for generating keys with snowflake key generate algorithm from concurrent threads.
+ *
+ * <p>Throughput is reported in keys, and is bounded by 4096 keys per millisecond of one worker id. Use {@code -t} to change thread count.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+public class SnowflakeKeyGenerateAlgorithmBenchmark {
+    
+    private static final int BATCH_SIZE = 100;
+    
+    @Param({"0", "1"})
+    private int maxVibrationOffset;
+    
+    private KeyGenerateAlgorithm keyGenerateAlgorithm;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        Properties props = new Properties();
+        props.setProperty("max-vibration-offset", String.valueOf(maxVibrationOffset));
+        keyGenerateAlgorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "SNOWFLAKE", props);
+    }
+    
+    /**
+     * Generate key.
+     *
+     * @return generated key
+     */
+    @Benchmark
+    public Comparable<?> generateKey() {
+        return keyGenerateAlgorithm.generateKey();
+    }
+    
+    /**
+     * Generate keys for one multi-row insert.
+     *
+     * @return generated keys
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Collection<? extends Comparable<?>> generateKeys() {
+        return keyGenerateAlgorithm.generateKeys(BATCH_SIZE);
+    }
+}
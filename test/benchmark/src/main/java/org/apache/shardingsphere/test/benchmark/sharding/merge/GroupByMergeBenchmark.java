@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding.merge;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for memory merge of {@code SELECT user_id, COUNT(*), SUM(amount) ... GROUP BY user_id ORDER BY 2 DESC}.
+ * 
+ * <p>Every shard returns one pre-aggregated row for each group, so the merged result has {@code cardinality} rows.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class GroupByMergeBenchmark {
+    
+    private static final List<RawQueryResultColumnMetaData> COLUMNS = Arrays.asList(new RawQueryResultColumnMetaData("", "user_id", "user_id", Types.BIGINT, "BIGINT", 20, 0),
+            new RawQueryResultColumnMetaData("", "COUNT(*)", "COUNT(*)", Types.BIGINT, "BIGINT", 20, 0),
+            new RawQueryResultColumnMetaData("", "SUM(amount)", "SUM(amount)", Types.DECIMAL, "DECIMAL", 20, 2));
+    
+    @Param({"MEMORY", "SPILLABLE", "PARALLEL"})
+    private String mergeType;
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Param({"100", "10000", "100000"})
+    private int cardinality;
+    
+    private ExecutorEngine executorEngine;
+    
+    private ShardingSphereDatabase database;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    private List<QueryResult> queryResults;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = MergeBenchmarkUtils.createDatabase();
+        selectStatementContext = MergeBenchmarkUtils.createSelectStatementContext(database, createSelectStatement());
+        executorEngine = ExecutorEngine.createExecutorEngineWithCPU();
+        resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), createProperties(), executorEngine);
+        shardRows = createShardRows();
+    }
+    
+    /**
+     * Tear down.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorEngine.close();
+    }
+    
+    private MySQLSelectStatement createSelectStatement() {
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(0, 0, new IdentifierValue("user_id"))));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.SUM, "(amount)"));
+        result.setProjections(projectionsSegment);
+        result.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST))));
+        result.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 2, OrderDirection.DESC, NullsOrderType.FIRST))));
+        return result;
+    }
+    
+    private ConfigurationProperties createProperties() {
+        Properties result = new Properties();
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_TYPE.getKey(), mergeType);
+        result.setProperty(ConfigurationPropertyKey.GROUP_BY_MERGE_SPILL_THRESHOLD.getKey(), String.valueOf(Math.max(1, cardinality / 4)));
+        return new ConfigurationProperties(result);
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(cardinality);
+            for (long userId = 0; userId < cardinality; userId++) {
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(userId, (userId + shard) % 10 + 1, BigDecimal.valueOf(userId * shard, 2))));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Prepare query results, which can be consumed only once.
+     */
+    @Setup(Level.Invocation)
+    public void prepareQueryResults() {
+        queryResults = MergeBenchmarkUtils.createQueryResults(COLUMNS, shardRows);
+    }
+    
+    /**
+     * Merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = resultMerger.merge(queryResults, selectStatementContext, database, new ConnectionContext());
+        try {
+            while (mergedResult.next()) {
+                blackhole.consume(mergedResult.getValue(1, Object.class));
+            }
+        } finally {
+            mergedResult.close();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding.merge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.database.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ShardingSphereResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Merge benchmark utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class MergeBenchmarkUtils {
+    
+    /**
+     * Create database without storage units and rules.
+     *
+     * @return created database
+     */
+    public static ShardingSphereDatabase createDatabase() {
+        return new ShardingSphereDatabase(DefaultDatabase.LOGIC_NAME, TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                new ShardingSphereResourceMetaData(DefaultDatabase.LOGIC_NAME, Collections.emptyMap()), new ShardingSphereRuleMetaData(Collections.emptyList()),
+                Collections.singletonMap(DefaultDatabase.LOGIC_NAME, new ShardingSphereSchema()));
+    }
+    
+    /**
+     * Create select statement context.
+     *
+     * @param database database
+     * @param selectStatement select statement
+     * @return created select statement context
+     */
+    public static SelectStatementContext createSelectStatementContext(final ShardingSphereDatabase database, final SelectStatement selectStatement) {
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database),
+                new ShardingSphereResourceMetaData(Collections.emptyMap()), new ShardingSphereRuleMetaData(Collections.emptyList()), new ConfigurationProperties(new Properties()));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    /**
+     * Create query results, one for each shard.
+     *
+     * @param columns columns meta data
+     * @param shardRows rows of each shard
+     * @return created query results
+     */
+    public static List<QueryResult> createQueryResults(final List<RawQueryResultColumnMetaData> columns, final List<List<MemoryQueryResultDataRow>> shardRows) {
+        List<QueryResult> result = new ArrayList<>(shardRows.size());
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            result.add(new RawMemoryQueryResult(new RawQueryResultMetaData(columns), each));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.benchmark.sharding.merge;
+
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.util.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.NullsOrderType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for stream merge of {@code SELECT order_id, order_no, create_time ... ORDER BY ?}.
+ * 
+ * <p>Rows of all shards are interleaved, so the merge switches shard for nearly every row.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class OrderByStreamMergeBenchmark {
+    
+    private static final long BASE_TIME_MILLIS = Timestamp.valueOf("2023-06-01 00:00:00").getTime();
+    
+    private static final List<RawQueryResultColumnMetaData> COLUMNS = Arrays.asList(new RawQueryResultColumnMetaData("", "order_id", "order_id", Types.BIGINT, "BIGINT", 20, 0),
+            new RawQueryResultColumnMetaData("", "order_no", "order_no", Types.VARCHAR, "VARCHAR", 32, 0),
+            new RawQueryResultColumnMetaData("", "create_time", "create_time", Types.TIMESTAMP, "DATETIME", 19, 0));
+    
+    @Param({"16", "64", "256"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowsPerShard;
+    
+    @Param({"1", "2", "3"})
+    private int orderByColumnIndex;
+    
+    private ShardingSphereDatabase database;
+    
+    private SelectStatementContext selectStatementContext;
+    
+    private ShardingDQLResultMerger resultMerger;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    private List<QueryResult> queryResults;
+    
+    /**
+     * Set up.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        database = MergeBenchmarkUtils.createDatabase();
+        selectStatementContext = MergeBenchmarkUtils.createSelectStatementContext(database, createSelectStatement());
+        resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        shardRows = createShardRows();
+    }
+    
+    private MySQLSelectStatement createSelectStatement() {
+        MySQLSelectStatement result = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        for (RawQueryResultColumnMetaData each : COLUMNS) {
+            projectionsSegment.getProjections().add(new ColumnProjectionSegment(new ColumnSegment(0, 0, new IdentifierValue(each.getName()))));
+        }
+        result.setProjections(projectionsSegment);
+        result.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, orderByColumnIndex, OrderDirection.ASC, NullsOrderType.FIRST))));
+        return result;
+    }
+    
+    private List<List<MemoryQueryResultDataRow>> createShardRows() {
+        List<List<MemoryQueryResultDataRow>> result = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<MemoryQueryResultDataRow> rows = new ArrayList<>(rowsPerShard);
+            for (int i = 0; i < rowsPerShard; i++) {
+                long orderId = (long) i * shardCount + shard;
+                rows.add(new MemoryQueryResultDataRow(Arrays.asList(orderId, String.format("NO%012d", orderId), new Timestamp(BASE_TIME_MILLIS + orderId * 1000L))));
+            }
+            result.add(rows);
+        }
+        return result;
+    }
+    
+    /**
+     * Prepare query results, which can be consumed only once.
+     */
+    @Setup(Level.Invocation)
+    public void prepareQueryResults() {
+        queryResults = MergeBenchmarkUtils.createQueryResults(COLUMNS, shardRows);
+    }
+    
+    /**
+     * Merge.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        MergedResult mergedResult = resultMerger.merge(queryResults, selectStatementContext, database, new ConnectionContext());
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+}
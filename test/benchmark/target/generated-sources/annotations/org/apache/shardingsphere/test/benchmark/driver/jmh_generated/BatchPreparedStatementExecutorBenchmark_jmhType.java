@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.driver.jmh_generated;
+public class BatchPreparedStatementExecutorBenchmark_jmhType extends BatchPreparedStatementExecutorBenchmark_jmhType_B3 {
+}
+
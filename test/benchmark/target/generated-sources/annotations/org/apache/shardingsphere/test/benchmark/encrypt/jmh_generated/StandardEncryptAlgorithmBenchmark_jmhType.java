@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.encrypt.jmh_generated;
+public class StandardEncryptAlgorithmBenchmark_jmhType extends StandardEncryptAlgorithmBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.expr.jmh_generated;
+public class InlineExpressionEvaluateBenchmark_jmhType extends InlineExpressionEvaluateBenchmark_jmhType_B3 {
+}
+
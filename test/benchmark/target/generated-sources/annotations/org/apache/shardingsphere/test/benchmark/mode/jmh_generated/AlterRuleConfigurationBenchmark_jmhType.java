@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.mode.jmh_generated;
+public class AlterRuleConfigurationBenchmark_jmhType extends AlterRuleConfigurationBenchmark_jmhType_B3 {
+}
+
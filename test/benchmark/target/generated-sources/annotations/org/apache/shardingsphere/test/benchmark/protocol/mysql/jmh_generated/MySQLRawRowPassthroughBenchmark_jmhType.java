@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.protocol.mysql.jmh_generated;
+public class MySQLRawRowPassthroughBenchmark_jmhType extends MySQLRawRowPassthroughBenchmark_jmhType_B3 {
+}
+
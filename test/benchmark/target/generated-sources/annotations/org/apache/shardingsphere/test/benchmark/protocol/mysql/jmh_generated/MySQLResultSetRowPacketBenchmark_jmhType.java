@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.protocol.mysql.jmh_generated;
+public class MySQLResultSetRowPacketBenchmark_jmhType extends MySQLResultSetRowPacketBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.proxy.frontend.jmh_generated;
+public class ConnectionThreadExecutorGroupBenchmark_jmhType extends ConnectionThreadExecutorGroupBenchmark_jmhType_B3 {
+}
+
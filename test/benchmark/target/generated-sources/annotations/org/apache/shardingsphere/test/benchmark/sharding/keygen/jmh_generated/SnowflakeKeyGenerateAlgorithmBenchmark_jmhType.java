@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.sharding.keygen.jmh_generated;
+public class SnowflakeKeyGenerateAlgorithmBenchmark_jmhType extends SnowflakeKeyGenerateAlgorithmBenchmark_jmhType_B3 {
+}
+
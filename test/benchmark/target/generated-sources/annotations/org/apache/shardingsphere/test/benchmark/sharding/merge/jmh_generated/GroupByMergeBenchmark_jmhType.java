@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.sharding.merge.jmh_generated;
+public class GroupByMergeBenchmark_jmhType extends GroupByMergeBenchmark_jmhType_B3 {
+}
+
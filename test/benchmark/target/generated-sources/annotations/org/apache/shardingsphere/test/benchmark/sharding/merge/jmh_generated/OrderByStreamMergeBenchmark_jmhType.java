@@ -0,0 +1,4 @@
+package org.apache.shardingsphere.test.benchmark.sharding.merge.jmh_generated;
+public class OrderByStreamMergeBenchmark_jmhType extends OrderByStreamMergeBenchmark_jmhType_B3 {
+}
+
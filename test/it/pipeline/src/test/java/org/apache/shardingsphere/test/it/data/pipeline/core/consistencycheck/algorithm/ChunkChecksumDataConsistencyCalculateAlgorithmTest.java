@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.data.pipeline.core.consistencycheck.algorithm;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
+import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.algorithm.AbstractRecordStreamingDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.algorithm.ChunkChecksumDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DataConsistencyCalculatedResult;
+import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChunkChecksumDataConsistencyCalculateAlgorithmTest {
+    
+    private static PipelineDataSourceWrapper source;
+    
+    private static PipelineDataSourceWrapper target;
+    
+    @BeforeAll
+    static void setUp() throws Exception {
+        source = new PipelineDataSourceWrapper(createHikariDataSource("source_ds"), new H2DatabaseType());
+        createTableAndInitData(source, "t_order_copy");
+        target = new PipelineDataSourceWrapper(createHikariDataSource("target_ds"), new H2DatabaseType());
+        createTableAndInitData(target, "t_order");
+    }
+    
+    @AfterAll
+    static void tearDown() throws Exception {
+        source.close();
+        target.close();
+    }
+    
+    private static HikariDataSource createHikariDataSource(final String databaseName) {
+        HikariDataSource result = new HikariDataSource();
+        result.setJdbcUrl(String.format("jdbc:h2:mem:%s;DATABASE_TO_UPPER=false;MODE=MySQL", databaseName));
+        result.setUsername("root");
+        result.setPassword("root");
+        result.setMaximumPoolSize(10);
+        result.setMinimumIdle(2);
+        result.setConnectionTimeout(15 * 1000);
+        result.setIdleTimeout(40 * 1000);
+        return result;
+    }
+    
+    private static void createTableAndInitData(final PipelineDataSourceWrapper dataSource, final String tableName) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            String sql = String.format("CREATE TABLE %s (order_id INT NOT NULL, user_id INT NOT NULL, status VARCHAR(45) NULL, PRIMARY KEY (order_id))", tableName);
+            connection.createStatement().execute(sql);
+            PreparedStatement preparedStatement = connection.prepareStatement(String.format("INSERT INTO %s (order_id, user_id, status) VALUES (?, ?, ?)", tableName));
+            for (int i = 0; i < 10; i++) {
+                preparedStatement.setInt(1, i + 1);
+                preparedStatement.setInt(2, i + 1);
+                preparedStatement.setString(3, "test");
+                preparedStatement.execute();
+            }
+        }
+    }
+    
+    @Test
+    void assertCalculateFromBegin() throws ReflectiveOperationException {
+        ChunkChecksumDataConsistencyCalculateAlgorithm calculateAlgorithm = new ChunkChecksumDataConsistencyCalculateAlgorithm();
+        Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+        DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy", 0);
+        Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order", 0);
+        Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertTrue(sourceCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertTrue(targetCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertThat(sourceCalculateResult.get().getMaxUniqueKeyValue().get(), is(targetCalculateResult.get().getMaxUniqueKeyValue().get()));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().get(), is(3L));
+        assertThat(targetCalculateResult.get().getRecordsCount(), is(3));
+        assertThat(sourceCalculateResult.get(), is(targetCalculateResult.get()));
+    }
+    
+    @Test
+    void assertCalculateFromMiddle() throws ReflectiveOperationException {
+        ChunkChecksumDataConsistencyCalculateAlgorithm calculateAlgorithm = new ChunkChecksumDataConsistencyCalculateAlgorithm();
+        Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+        DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy", 5);
+        Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order", 5);
+        Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertTrue(sourceCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertTrue(targetCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertThat(sourceCalculateResult.get().getMaxUniqueKeyValue().get(), is(targetCalculateResult.get().getMaxUniqueKeyValue().get()));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().get(), is(6L));
+        assertThat(targetCalculateResult.get().getRecordsCount(), is(1));
+        assertThat(sourceCalculateResult.get(), is(targetCalculateResult.get()));
+    }
+    
+    @Test
+    void assertInitWithWrongProps() {
+        ChunkChecksumDataConsistencyCalculateAlgorithm calculateAlgorithm = new ChunkChecksumDataConsistencyCalculateAlgorithm();
+        calculateAlgorithm.init(PropertiesBuilder.build(new Property("chunk-size", "wrong")));
+        DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy", 0);
+        Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
+        DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order", 0);
+        Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(targetParam);
+        assertTrue(sourceCalculateResult.isPresent());
+        assertTrue(targetCalculateResult.isPresent());
+        assertTrue(sourceCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertTrue(targetCalculateResult.get().getMaxUniqueKeyValue().isPresent());
+        assertThat(sourceCalculateResult.get().getMaxUniqueKeyValue().get(), is(targetCalculateResult.get().getMaxUniqueKeyValue().get()));
+        assertThat(targetCalculateResult.get().getMaxUniqueKeyValue().get(), is(10L));
+        assertThat(sourceCalculateResult.get(), is(targetCalculateResult.get()));
+    }
+    
+    @Test
+    void assertCalculateWithDifferentRecord() throws ReflectiveOperationException, SQLException {
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("UPDATE t_order SET status='modified' WHERE order_id=3");
+            ChunkChecksumDataConsistencyCalculateAlgorithm calculateAlgorithm = new ChunkChecksumDataConsistencyCalculateAlgorithm();
+            Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+            Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(generateParameter(source, "t_order_copy", 0));
+            Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(generateParameter(target, "t_order", 0));
+            assertTrue(sourceCalculateResult.isPresent());
+            assertTrue(targetCalculateResult.isPresent());
+            assertThat(sourceCalculateResult.get().getRecordsCount(), is(targetCalculateResult.get().getRecordsCount()));
+            assertNotEquals(sourceCalculateResult.get(), targetCalculateResult.get());
+        } finally {
+            try (Connection connection = target.getConnection()) {
+                connection.createStatement().execute("UPDATE t_order SET status='test' WHERE order_id=3");
+            }
+        }
+    }
+    
+    @Test
+    void assertCalculateWithMissingRecord() throws ReflectiveOperationException, SQLException {
+        try (Connection connection = target.getConnection()) {
+            connection.createStatement().execute("DELETE FROM t_order WHERE order_id=4");
+            ChunkChecksumDataConsistencyCalculateAlgorithm calculateAlgorithm = new ChunkChecksumDataConsistencyCalculateAlgorithm();
+            Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+            assertThat(calculateAlgorithm.calculateChunk(generateParameter(source, "t_order_copy", 0)), is(calculateAlgorithm.calculateChunk(generateParameter(target, "t_order", 0))));
+            assertNotEquals(calculateAlgorithm.calculateChunk(generateParameter(source, "t_order_copy", 3)), calculateAlgorithm.calculateChunk(generateParameter(target, "t_order", 3)));
+            Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(generateParameter(source, "t_order_copy", 5));
+            Optional<DataConsistencyCalculatedResult> targetCalculateResult = calculateAlgorithm.calculateChunk(generateParameter(target, "t_order", 5));
+            assertTrue(targetCalculateResult.isPresent());
+            assertThat(targetCalculateResult.get().getMaxUniqueKeyValue(), is(Optional.of(6L)));
+            assertThat(sourceCalculateResult, is(targetCalculateResult));
+        } finally {
+            try (Connection connection = target.getConnection()) {
+                connection.createStatement().execute("INSERT INTO t_order (order_id, user_id, status) VALUES (4, 4, 'test')");
+            }
+        }
+    }
+    
+    private DataConsistencyCalculateParameter generateParameter(final PipelineDataSourceWrapper dataSource, final String logicTableName, final Object dataCheckPosition) {
+        PipelineColumnMetaData uniqueKey = new PipelineColumnMetaData(1, "order_id", Types.INTEGER, "integer", false, true, true);
+        return new DataConsistencyCalculateParameter(dataSource, null, logicTableName, Collections.emptyList(),
+                "H2", "H2", uniqueKey, dataCheckPosition);
+    }
+}
@@ -21,6 +21,7 @@ import com.zaxxer.hikari.HikariDataSource;
 import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumnMetaData;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.consistencycheck.algorithm.AbstractRecordStreamingDataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.algorithm.DataMatchDataConsistencyCalculateAlgorithm;
 import org.apache.shardingsphere.data.pipeline.core.consistencycheck.result.DataConsistencyCalculatedResult;
 import org.apache.shardingsphere.infra.database.type.dialect.H2DatabaseType;
@@ -91,7 +92,7 @@ class DataMatchDataConsistencyCalculateAlgorithmTest {
     @Test
     void assertCalculateFromBegin() throws ReflectiveOperationException {
         DataMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = new DataMatchDataConsistencyCalculateAlgorithm();
-        Plugins.getMemberAccessor().set(DataMatchDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+        Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
         DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy", 0);
         Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
         DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order", 0);
@@ -108,7 +109,7 @@ class DataMatchDataConsistencyCalculateAlgorithmTest {
     @Test
     void assertCalculateFromMiddle() throws ReflectiveOperationException {
         DataMatchDataConsistencyCalculateAlgorithm calculateAlgorithm = new DataMatchDataConsistencyCalculateAlgorithm();
-        Plugins.getMemberAccessor().set(DataMatchDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
+        Plugins.getMemberAccessor().set(AbstractRecordStreamingDataConsistencyCalculateAlgorithm.class.getDeclaredField("chunkSize"), calculateAlgorithm, 5);
         DataConsistencyCalculateParameter sourceParam = generateParameter(source, "t_order_copy", 5);
         Optional<DataConsistencyCalculatedResult> sourceCalculateResult = calculateAlgorithm.calculateChunk(sourceParam);
         DataConsistencyCalculateParameter targetParam = generateParameter(target, "t_order", 5);
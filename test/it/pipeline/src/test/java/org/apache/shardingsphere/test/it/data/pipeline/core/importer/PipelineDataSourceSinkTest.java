@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSou
 import org.apache.shardingsphere.data.pipeline.common.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.FinishedPosition;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.common.job.progress.listener.PipelineJobProgressUpdatedParameter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineDataSourceSink;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
@@ -43,20 +44,28 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -122,12 +131,14 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getDataRecord("UPDATE");
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         verify(preparedStatement).setObject(1, 20);
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).executeUpdate();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -135,6 +146,7 @@ class PipelineDataSourceSinkTest {
         DataRecord updateRecord = getUpdatePrimaryKeyDataRecord();
         when(connection.prepareStatement(any())).thenReturn(preparedStatement);
         when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(mockRecords(updateRecord));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1});
         importer.run();
         InOrder inOrder = inOrder(preparedStatement);
         inOrder.verify(preparedStatement).setObject(1, 2);
@@ -142,7 +154,37 @@ class PipelineDataSourceSinkTest {
         inOrder.verify(preparedStatement).setObject(3, "UPDATE");
         inOrder.verify(preparedStatement).setObject(4, 1);
         inOrder.verify(preparedStatement).setObject(5, 0);
-        inOrder.verify(preparedStatement).executeUpdate();
+        inOrder.verify(preparedStatement).addBatch();
+        inOrder.verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    void assertBatchUpdateDataRecordsWithSameStatement() throws SQLException {
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetchRecords(anyInt(), anyLong(), any())).thenReturn(mockRecords(getDataRecord("UPDATE", 1), getDataRecord("UPDATE", 2)));
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1});
+        importer.run();
+        verify(connection).prepareStatement(any());
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsWithMultipleWriters() throws SQLException, IOException {
+        ExecutorService writerExecutor = Executors.newFixedThreadPool(2);
+        try {
+            PipelineSink pipelineSink = new PipelineDataSourceSink(mockImporterConfiguration(), dataSourceManager, writerExecutor, 2);
+            when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+            List<Record> records = mockRecords(getDataRecord("INSERT", 1), getDataRecord("INSERT", 2));
+            PipelineJobProgressUpdatedParameter actual = pipelineSink.write("", records);
+            pipelineSink.close();
+            assertFalse(writerExecutor.isShutdown());
+            assertThat(actual.getProcessedRecordsCount(), is(2));
+            verify(connection, times(2)).prepareStatement(any());
+            verify(preparedStatement, times(2)).executeBatch();
+        } finally {
+            writerExecutor.shutdown();
+        }
     }
     
     private DataRecord getUpdatePrimaryKeyDataRecord() {
@@ -153,14 +195,17 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
-    private List<Record> mockRecords(final DataRecord dataRecord) {
-        List<Record> result = new LinkedList<>();
-        result.add(dataRecord);
+    private List<Record> mockRecords(final DataRecord... dataRecords) {
+        List<Record> result = new LinkedList<>(Arrays.asList(dataRecords));
         result.add(new FinishedRecord(new FinishedPosition()));
         return result;
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         Integer idOldValue = null;
         Integer userOldValue = null;
         Integer idValue = null;
@@ -168,19 +213,19 @@ class PipelineDataSourceSinkTest {
         String statusOldValue = null;
         String statusValue = null;
         if ("INSERT".equals(recordType)) {
-            idValue = 1;
+            idValue = id;
             userValue = 10;
             statusValue = recordType;
         }
         if ("UPDATE".equals(recordType)) {
-            idOldValue = 1;
+            idOldValue = id;
             idValue = idOldValue;
             userOldValue = 10;
             userValue = 20;
             statusValue = recordType;
         }
         if ("DELETE".equals(recordType)) {
-            idOldValue = 1;
+            idOldValue = id;
             userOldValue = 10;
             statusOldValue = recordType;
         }
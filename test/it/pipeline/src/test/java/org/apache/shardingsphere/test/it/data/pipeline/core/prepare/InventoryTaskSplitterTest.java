@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.metadata.model.PipelineColumn
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.common.datasource.PipelineDataSourceWrapper;
 import org.apache.shardingsphere.data.pipeline.common.ingest.position.IntegerPrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.common.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.PipelineTableMetaDataUtils;
 import org.apache.shardingsphere.data.pipeline.common.metadata.loader.StandardPipelineTableMetaDataLoader;
 import org.apache.shardingsphere.data.pipeline.core.preparer.InventoryTaskSplitter;
@@ -41,11 +42,14 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class InventoryTaskSplitterTest {
@@ -114,6 +118,35 @@ class InventoryTaskSplitterTest {
         assertThat(keyPosition.getEndValue(), is(999L));
     }
     
+    @Test
+    void assertSplitInventoryDataWithStringPrimary() throws SQLException {
+        initStringPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Collections.singletonList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        StringPrimaryKeyPosition firstPosition = (StringPrimaryKeyPosition) actual.get(0).getTaskProgress().getPosition();
+        assertThat(firstPosition.getBeginValue(), is("k000"));
+        assertThat(firstPosition.getEndValue(), is("k009"));
+        StringPrimaryKeyPosition lastPosition = (StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition();
+        assertThat(lastPosition.getBeginValue(), is("k090"));
+        assertNull(lastPosition.getEndValue());
+    }
+    
+    @Test
+    void assertSplitInventoryDataWithCaseInsensitiveStringUnionPrimary() throws SQLException {
+        initCaseInsensitiveStringUnionPrimaryEnvironment(dumperConfig);
+        dumperConfig.setUniqueKeyColumns(Arrays.asList(new PipelineColumnMetaData(1, "order_id", Types.VARCHAR, "varchar_ignorecase", false, true, true),
+                new PipelineColumnMetaData(2, "item_id", Types.INTEGER, "int", false, true, true)));
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobItemContext);
+        assertThat(actual.size(), is(10));
+        for (int i = 0; i < actual.size() - 1; i++) {
+            String endValue = ((StringPrimaryKeyPosition) actual.get(i).getTaskProgress().getPosition()).getEndValue();
+            String nextBeginValue = ((StringPrimaryKeyPosition) actual.get(i + 1).getTaskProgress().getPosition()).getBeginValue();
+            assertFalse(endValue.equalsIgnoreCase(nextBeginValue));
+        }
+        assertNull(((StringPrimaryKeyPosition) actual.get(9).getTaskProgress().getPosition()).getEndValue());
+    }
+    
     @Test
     void assertSplitInventoryDataWithoutPrimaryButWithUniqueIndex() throws SQLException {
         initUniqueIndexOnNotNullColumnEnvironment(dumperConfig);
@@ -177,6 +210,32 @@ class InventoryTaskSplitterTest {
         }
     }
     
+    private void initStringPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR(12) PRIMARY KEY, user_id VARCHAR(12))");
+            for (int i = 0; i < 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, user_id) VALUES ('k%03d', 'x')", i));
+            }
+        }
+    }
+    
+    private void initCaseInsensitiveStringUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
+        DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS t_order");
+            statement.execute("CREATE TABLE t_order (order_id VARCHAR_IGNORECASE(12), item_id INT, PRIMARY KEY (order_id, item_id))");
+            for (int i = 0; i < 100; i++) {
+                statement.execute(String.format("INSERT INTO t_order (order_id, item_id) VALUES ('%s%03d', %d)", 0 == i % 2 ? "k" : "K", i / 2, i));
+            }
+        }
+    }
+    
     private void initUnionPrimaryEnvironment(final DumperConfiguration dumperConfig) throws SQLException {
         DataSource dataSource = dataSourceManager.getDataSource(dumperConfig.getDataSourceConfig());
         try (